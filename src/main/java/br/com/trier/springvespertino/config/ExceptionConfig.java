@@ -0,0 +1,21 @@
+package br.com.trier.springvespertino.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import br.com.trier.springvespertino.services.exceptions.ServiceException;
+import jakarta.annotation.PostConstruct;
+
+// as exceções são criadas fora do Spring, então a propriedade chega nelas por um flag estático
+@Configuration
+public class ExceptionConfig {
+
+	@Value("${app.exceptions.stack-traces:false}")
+	private boolean stackTraces;
+
+	@PostConstruct
+	void init() {
+		ServiceException.setStackTraces(stackTraces);
+	}
+
+}
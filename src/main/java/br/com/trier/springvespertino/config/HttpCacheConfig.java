@@ -0,0 +1,77 @@
+package br.com.trier.springvespertino.config;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// ETag forte do hash do corpo (ShallowEtagHeaderFilter) nas leituras que costumam se repetir.
+// Vale entre instâncias e para qualquer caminho de escrita; o 304 economiza a banda, a consulta continua rodando
+// (relatório, classificações e entidades por id já saem dos caches de aplicação e L2).
+@Configuration
+public class HttpCacheConfig {
+
+	private static final List<PathPattern> ROUTES = List.of(
+			"/racers/{id}",
+			"/pilot/{id}",
+			"/pilot/{id}/stats",
+			"/teams/standings/{championshipId}",
+			"/championships",
+			"/championships/{id}",
+			"/championships/{id}/standings",
+			"/championships/year/{ano}",
+			"/championships/year-beetwen/{start}/{end}",
+			"/championships/description/{description}",
+			"/championships/description-year/{descricao}/{ano}",
+			"/reports/races-by-country-year/{countryId}/{year}")
+			.stream().map(PathPatternParser.defaultInstance::parse).toList();
+
+	@Value("${http.cache.public:false}")
+	private boolean cachePublic;
+
+	@Bean
+	public FilterRegistrationBean<ShallowEtagHeaderFilter> etagFilter() {
+		String cacheControl = (cachePublic ? CacheControl.noCache().cachePublic() : CacheControl.noCache().cachePrivate()).getHeaderValue();
+		ShallowEtagHeaderFilter filter = new ShallowEtagHeaderFilter() {
+
+			// o NDJSON sai em streaming e não pode ser bufferizado para o hash
+			@Override
+			protected boolean shouldNotFilter(HttpServletRequest request) {
+				if (!HttpMethod.GET.matches(request.getMethod())) {
+					return true;
+				}
+				String accept = request.getHeader(HttpHeaders.ACCEPT);
+				if (accept != null && accept.contains(MediaType.APPLICATION_NDJSON_VALUE)) {
+					return true;
+				}
+				PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+				return ROUTES.stream().noneMatch(route -> route.matches(path));
+			}
+
+			@Override
+			protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+					throws ServletException, IOException {
+				response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+				super.doFilterInternal(request, response, filterChain);
+			}
+		};
+		return new FilterRegistrationBean<>(filter);
+	}
+
+}
@@ -0,0 +1,24 @@
+package br.com.trier.springvespertino.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import br.com.trier.springvespertino.services.UserService;
+
+// converte para BCrypt as senhas ainda em texto puro; usuários não migrados não conseguem logar
+@Component
+@ConditionalOnProperty(value = "users.hash-plain-passwords-on-startup", havingValue = "true")
+public class PasswordHashMigrationRunner implements ApplicationRunner {
+
+	@Autowired
+	private UserService service;
+
+	@Override
+	public void run(ApplicationArguments args) {
+		service.hashPlainTextPasswords();
+	}
+
+}
@@ -0,0 +1,24 @@
+package br.com.trier.springvespertino.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import br.com.trier.springvespertino.services.PilotStatsService;
+
+// reconstrói as estatísticas de pilotos a partir de piloto_corrida (ex.: carga externa); a primeira carga fica no schema-postgres.sql
+@Component
+@ConditionalOnProperty(value = "pilot-stats.rebuild-on-startup", havingValue = "true")
+public class PilotStatsRebuildRunner implements ApplicationRunner {
+
+	@Autowired
+	private PilotStatsService service;
+
+	@Override
+	public void run(ApplicationArguments args) {
+		service.rebuild();
+	}
+
+}
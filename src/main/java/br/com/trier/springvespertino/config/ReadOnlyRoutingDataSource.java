@@ -0,0 +1,17 @@
+package br.com.trier.springvespertino.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class ReadOnlyRoutingDataSource extends AbstractRoutingDataSource {
+
+	public static final String PRIMARY = "primary";
+
+	public static final String REPLICA = "replica";
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? REPLICA : PRIMARY;
+	}
+
+}
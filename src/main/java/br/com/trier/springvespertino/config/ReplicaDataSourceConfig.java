@@ -0,0 +1,61 @@
+package br.com.trier.springvespertino.config;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "url")
+public class ReplicaDataSourceConfig {
+
+	@Bean
+	@Primary
+	@ConfigurationProperties("spring.datasource")
+	public DataSourceProperties primaryDataSourceProperties() {
+		return new DataSourceProperties();
+	}
+
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource primaryDataSource() {
+		return primaryDataSourceProperties().initializeDataSourceBuilder().type(HikariDataSource.class).build();
+	}
+
+	@Bean
+	@ConfigurationProperties("app.datasource.replica")
+	public DataSourceProperties replicaDataSourceProperties() {
+		return new DataSourceProperties();
+	}
+
+	@Bean
+	@ConfigurationProperties("app.datasource.replica.hikari")
+	public HikariDataSource replicaDataSource() {
+		HikariDataSource dataSource = replicaDataSourceProperties().initializeDataSourceBuilder()
+				.type(HikariDataSource.class).build();
+		dataSource.setReadOnly(true);
+		return dataSource;
+	}
+
+	@Bean
+	@Primary
+	public DataSource dataSource() {
+		ReadOnlyRoutingDataSource routing = new ReadOnlyRoutingDataSource();
+		routing.setTargetDataSources(Map.of(ReadOnlyRoutingDataSource.PRIMARY, primaryDataSource(),
+				ReadOnlyRoutingDataSource.REPLICA, replicaDataSource()));
+		routing.setDefaultTargetDataSource(primaryDataSource());
+		routing.afterPropertiesSet();
+		// a conexão só é obtida no primeiro comando, quando a transação já sabe se é somente leitura
+		return new LazyConnectionDataSourceProxy(routing);
+	}
+
+}
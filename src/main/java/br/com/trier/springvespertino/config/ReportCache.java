@@ -0,0 +1,163 @@
+package br.com.trier.springvespertino.config;
+
+import java.io.UncheckedIOException;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import br.com.trier.springvespertino.models.Race;
+import br.com.trier.springvespertino.models.dto.CacheStatsDTO;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+
+// relatório de corridas por país/ano já serializado, chave (país, ano).
+// cada entrada guarda o carimbo (soma das gerações global, do país e da chave) de quando começou a ser montada;
+// as invalidações sobem a geração depois do commit, então uma montagem concorrente com a escrita nunca fica valendo.
+@Component
+public class ReportCache implements MeterBinder {
+
+	private final Map<Integer, AtomicLong> countryGenerations = new ConcurrentHashMap<>();
+
+	private final Map<Long, AtomicLong> keyGenerations = new ConcurrentHashMap<>();
+
+	private final AtomicLong generation = new AtomicLong();
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	@Autowired
+	private ObjectMapper mapper;
+
+	@Value("${report-cache.maximum-size:1000}")
+	private long maximumSize;
+
+	private Cache<Long, Entry> cache;
+
+	private record Entry(long stamp, byte[] body) {
+	}
+
+	@PostConstruct
+	void init() {
+		cache = Caffeine.newBuilder().maximumSize(maximumSize).recordStats().build();
+	}
+
+	private static long key(Integer countryId, int year) {
+		return ((long) countryId << 32) | (year & 0xFFFFFFFFL);
+	}
+
+	private AtomicLong countryGeneration(Integer countryId) {
+		return countryGenerations.computeIfAbsent(countryId, k -> new AtomicLong());
+	}
+
+	private AtomicLong keyGeneration(long key) {
+		return keyGenerations.computeIfAbsent(key, k -> new AtomicLong());
+	}
+
+	private long stamp(Integer countryId, long key) {
+		return generation.get() + countryGeneration(countryId).get() + keyGeneration(key).get();
+	}
+
+	public byte[] get(Integer countryId, Integer year, Supplier<?> report) {
+		long key = key(countryId, year);
+		long stamp = stamp(countryId, key);
+		Entry entry = cache.getIfPresent(key);
+		if (entry != null && entry.stamp() == stamp) {
+			hits.increment();
+			return entry.body();
+		}
+		misses.increment();
+		byte[] body;
+		try {
+			body = mapper.writeValueAsBytes(report.get());
+		} catch (JsonProcessingException e) {
+			throw new UncheckedIOException(e);
+		}
+		cache.put(key, new Entry(stamp, body));
+		return body;
+	}
+
+	// a corrida entra no relatório do país da pista, no ano da data no fuso do servidor
+	public void invalidate(Race race) {
+		if (race.getDate() == null || race.getSpeedway() == null || race.getSpeedway().getCountry() == null) {
+			return;
+		}
+		invalidate(race.getSpeedway().getCountry().getId(), race.getDate());
+	}
+
+	public void invalidate(Integer countryId, ZonedDateTime date) {
+		if (countryId == null || date == null) {
+			return;
+		}
+		long key = key(countryId, date.withZoneSameInstant(ZoneId.systemDefault()).getYear());
+		afterCommit(() -> {
+			keyGeneration(key).incrementAndGet();
+			cache.invalidate(key);
+		});
+	}
+
+	public void invalidateCountry(Integer countryId) {
+		if (countryId == null) {
+			return;
+		}
+		afterCommit(() -> {
+			countryGeneration(countryId).incrementAndGet();
+			cache.asMap().keySet().removeIf(key -> (int) (key >> 32) == countryId);
+		});
+	}
+
+	public void invalidateAll() {
+		afterCommit(() -> {
+			generation.incrementAndGet();
+			cache.invalidateAll();
+		});
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		FunctionCounter.builder("report.cache.gets", hits, LongAdder::sum).tag("result", "hit").register(registry);
+		FunctionCounter.builder("report.cache.gets", misses, LongAdder::sum).tag("result", "miss").register(registry);
+		Gauge.builder("report.cache.size", this, c -> c.cache.estimatedSize()).register(registry);
+	}
+
+	public CacheStatsDTO stats() {
+		long hitCount = hits.sum();
+		long missCount = misses.sum();
+		long total = hitCount + missCount;
+		return new CacheStatsDTO(hitCount, missCount, total == 0 ? 0.0 : (double) hitCount / total,
+				cache.estimatedSize(), cache.stats().evictionCount());
+	}
+
+	// fora de transação a escrita já foi gravada quando a invalidação é chamada
+	private static void afterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+
+}
@@ -0,0 +1,33 @@
+package br.com.trier.springvespertino.config;
+
+import java.time.Year;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import br.com.trier.springvespertino.services.ReportService;
+import lombok.extern.slf4j.Slf4j;
+
+// pré-carrega o relatório de corridas por país da temporada atual
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "report-cache.warm-up-on-startup", havingValue = "true")
+public class ReportCacheWarmUpRunner implements ApplicationRunner {
+
+	@Autowired
+	private ReportService service;
+
+	@Override
+	public void run(ApplicationArguments args) {
+		// só adianta trabalho: se o banco não responder, o relatório é montado na primeira requisição
+		try {
+			service.warmUp(Year.now().getValue());
+		} catch (RuntimeException e) {
+			log.warn("Falha na pré-carga do relatório de corridas por país: {}", e.getMessage());
+		}
+	}
+
+}
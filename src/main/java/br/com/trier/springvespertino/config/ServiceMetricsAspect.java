@@ -0,0 +1,43 @@
+package br.com.trier.springvespertino.config;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// tempo e contagem de cada método público dos *ServiceImpl; fica por fora do @Transactional para incluir o commit
+@Aspect
+@Component
+@Order(0)
+public class ServiceMetricsAspect {
+
+	public static final String METRIC = "service.invocations";
+
+	@Autowired
+	private MeterRegistry registry;
+
+	@Around("execution(public * br.com.trier.springvespertino.services.impl.*ServiceImpl.*(..))")
+	public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+		Timer.Sample sample = Timer.start(registry);
+		String exception = "none";
+		try {
+			return joinPoint.proceed();
+		} catch (Throwable e) {
+			exception = e.getClass().getSimpleName();
+			throw e;
+		} finally {
+			sample.stop(Timer.builder(METRIC)
+					.tag("class", AopUtils.getTargetClass(joinPoint.getTarget()).getSimpleName())
+					.tag("method", joinPoint.getSignature().getName())
+					.tag("exception", exception)
+					.register(registry));
+		}
+	}
+
+}
@@ -0,0 +1,24 @@
+package br.com.trier.springvespertino.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import br.com.trier.springvespertino.services.TeamStandingsService;
+
+// backfill da classificação de equipes a partir de piloto_corrida (ex.: primeira subida ou carga externa)
+@Component
+@ConditionalOnProperty(value = "team-standings.rebuild-on-startup", havingValue = "true")
+public class TeamStandingsRebuildRunner implements ApplicationRunner {
+
+	@Autowired
+	private TeamStandingsService service;
+
+	@Override
+	public void run(ApplicationArguments args) {
+		service.rebuild();
+	}
+
+}
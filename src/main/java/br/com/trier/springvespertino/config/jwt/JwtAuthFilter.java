@@ -10,13 +10,17 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 @Component
-public class JwtAuthFilter extends OncePerRequestFilter{
+public class JwtAuthFilter extends OncePerRequestFilter implements MeterBinder {
 	
 	@Autowired
     private JwtUtil jwtUtil;
@@ -24,19 +28,29 @@ public class JwtAuthFilter extends OncePerRequestFilter{
     @Autowired
     private JwtUserDetailService service;
 
+    private Timer parseTimer;
+
+    private Timer userLookupTimer;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        parseTimer = Timer.builder("jwt.parse").register(registry);
+        userLookupTimer = Timer.builder("jwt.user.lookup").register(registry);
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         String authHeader = request.getHeader("Authorization");
-        String token = null;
-        String username = null;
+        Claims claims = null;
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            token = authHeader.substring(7);
-            username = jwtUtil.extractUsername(token);
+            String token = authHeader.substring(7);
+            claims = parseTimer.record(() -> jwtUtil.extractAllClaims(token));
         }
 
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = service.loadUserByUsername(username);
-            if (jwtUtil.validateToken(token, userDetails)) {
+        if (claims != null && claims.getSubject() != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            String subject = claims.getSubject();
+            UserDetails userDetails = userLookupTimer.record(() -> service.loadUserByUsername(subject));
+            if (jwtUtil.validateToken(claims, userDetails)) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authToken);
@@ -1,29 +1,62 @@
 package br.com.trier.springvespertino.config.jwt;
 
+import java.time.Duration;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
 import br.com.trier.springvespertino.repositories.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 
 
 @Component
-public class JwtUserDetailService implements UserDetailsService {
+public class JwtUserDetailService implements UserDetailsService, MeterBinder {
+
+	private static final long CACHE_SIZE = 1_000;
+
+	private static final Duration CACHE_TTL = Duration.ofMinutes(5);
 
 	@Autowired
 	private UserRepository repository;
 
+	private final Cache<String, UserDetails> users = Caffeine.newBuilder()
+			.maximumSize(CACHE_SIZE)
+			.expireAfterWrite(CACHE_TTL)
+			.recordStats()
+			.build();
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		CaffeineCacheMetrics.monitor(registry, users, "jwt.users");
+	}
+
 	@Override
 	public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-		BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
-		br.com.trier.springvespertino.models.User user = repository.findByEmail(email).orElseThrow(null);
+		// devolve uma cópia: o AuthenticationManager apaga a senha do principal após o login
+		return User.withUserDetails(users.get(email, this::load)).build();
+	}
+
+	public void evict(String email) {
+		if (email != null) {
+			users.invalidate(email);
+		}
+	}
+
+	private UserDetails load(String email) {
+		br.com.trier.springvespertino.models.User user = repository.findByEmail(email)
+				.orElseThrow(() -> new UsernameNotFoundException("Usuário %s não encontrado".formatted(email)));
 		return User.builder()
 				.username(user.getEmail())
-				.password(encoder.encode(user.getPassword()))
+				.password(user.getPassword())
 				.roles(user.getRoles().split(","))
 				.build();
 	}
@@ -4,22 +4,48 @@ import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 
 @Component
-public class JwtUtil {
+public class JwtUtil implements MeterBinder {
 
 	public static final String SECRET = "oratoroeuaroupadoreideromaarainhamatouorato";
 
+	private static final long TOKEN_CACHE_SIZE = 10_000;
+
+	private final Key signKey = getSignKey();
+
+	private final JwtParser parser = Jwts.parserBuilder().setSigningKey(signKey).build();
+
+	private final Cache<String, Claims> verifiedTokens = Caffeine.newBuilder()
+			.maximumSize(TOKEN_CACHE_SIZE)
+			.expireAfter(new TokenExpiry())
+			.recordStats()
+			.build();
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		CaffeineCacheMetrics.monitor(registry, verifiedTokens, "jwt.tokens");
+	}
+
 	public String extractUsername(String token) {
 		return extractClaim(token, Claims::getSubject);
 	}
@@ -33,17 +59,21 @@ public class JwtUtil {
 		return claimsResolver.apply(claims);
 	}
 
-	private Claims extractAllClaims(String token) {
-		return Jwts.parserBuilder().setSigningKey(getSignKey()).build().parseClaimsJws(token).getBody();
+	public Claims extractAllClaims(String token) {
+		return verifiedTokens.get(token, t -> parser.parseClaimsJws(t).getBody());
 	}
 
-	private Boolean isTokenExpired(String token) {
-		return extractExpiration(token).before(new Date());
+	private Boolean isTokenExpired(Claims claims) {
+		return claims.getExpiration().before(new Date());
 	}
 
 	public Boolean validateToken(String token, UserDetails userDetails) {
-		final String username = extractUsername(token);
-		return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+		return validateToken(extractAllClaims(token), userDetails);
+	}
+
+	public Boolean validateToken(Claims claims, UserDetails userDetails) {
+		final String username = claims.getSubject();
+		return (username.equals(userDetails.getUsername()) && !isTokenExpired(claims));
 	}
 
 	public String generateToken(String userName) {
@@ -57,12 +87,36 @@ public class JwtUtil {
 				.setSubject(userName)
 				.setIssuedAt(new Date(System.currentTimeMillis()))
 				.setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 30))
-				.signWith(getSignKey(), SignatureAlgorithm.HS256).compact();
+				.signWith(signKey, SignatureAlgorithm.HS256).compact();
 	}
 
-	private Key getSignKey() {
+	private static Key getSignKey() {
 		byte[] keyBytes = Decoders.BASE64.decode(SECRET);
 		return Keys.hmacShaKeyFor(keyBytes);
 	}
 
+	private static class TokenExpiry implements Expiry<String, Claims> {
+
+		@Override
+		public long expireAfterCreate(String token, Claims claims, long currentTime) {
+			Date expiration = claims.getExpiration();
+			if (expiration == null) {
+				return 0;
+			}
+			long remaining = expiration.getTime() - System.currentTimeMillis();
+			return TimeUnit.MILLISECONDS.toNanos(Math.max(remaining, 0));
+		}
+
+		@Override
+		public long expireAfterUpdate(String token, Claims claims, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+
+		@Override
+		public long expireAfterRead(String token, Claims claims, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+
+	}
+
 }
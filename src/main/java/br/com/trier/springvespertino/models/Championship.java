@@ -1,10 +1,17 @@
 package br.com.trier.springvespertino.models;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -16,10 +23,14 @@ import lombok.Setter;
 @EqualsAndHashCode(of = "id")
 @Getter
 @Entity(name = "campeonato")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "campeonato")
+@Table(indexes = @Index(name = "idx_campeonato_ano", columnList = "ano"))
 public class Championship {
 	
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "campeonato_seq")
+	@SequenceGenerator(name = "campeonato_seq", sequenceName = "campeonato_seq", allocationSize = 50)
 	@Column(name = "codigo_campeonato")
 	@Setter
 	private Integer id;
@@ -1,10 +1,15 @@
 package br.com.trier.springvespertino.models;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -16,11 +21,14 @@ import lombok.Setter;
 @AllArgsConstructor
 @EqualsAndHashCode(of = "id")
 @Entity (name = "pais")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "pais")
 public class Country {
 
 	@Id
 	@Setter
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pais_seq")
+	@SequenceGenerator(name = "pais_seq", sequenceName = "pais_seq", allocationSize = 50)
 	@Column
 	private Integer id;
 	@Setter
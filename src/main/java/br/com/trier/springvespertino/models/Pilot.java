@@ -1,11 +1,18 @@
 package br.com.trier.springvespertino.models;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
@@ -18,11 +25,17 @@ import lombok.Setter;
 @AllArgsConstructor
 @EqualsAndHashCode (of = "id")
 @Entity(name="piloto")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "piloto")
+@Table(indexes = {
+		@Index(name = "idx_piloto_pais", columnList = "country_id"),
+		@Index(name = "idx_piloto_equipe", columnList = "team_id_quipe") })
 public class Pilot {
 	
 	@Setter
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "piloto_seq")
+	@SequenceGenerator(name = "piloto_seq", sequenceName = "piloto_seq", allocationSize = 50)
 	@Column(name = "id_piloto")
 	private Integer id;
 
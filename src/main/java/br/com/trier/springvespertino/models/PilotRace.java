@@ -7,6 +7,12 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -18,10 +24,23 @@ import lombok.Setter;
 @AllArgsConstructor
 @EqualsAndHashCode(of = "id")
 @Entity(name = "piloto_corrida")
+@NamedEntityGraph(name = PilotRace.GRAPH, attributeNodes = {
+		@NamedAttributeNode(value = "pilot", subgraph = "pilot"),
+		@NamedAttributeNode(value = "race", subgraph = "race") },
+		subgraphs = {
+				@NamedSubgraph(name = "pilot", attributeNodes = { @NamedAttributeNode("country"), @NamedAttributeNode("team") }),
+				@NamedSubgraph(name = "race", attributeNodes = { @NamedAttributeNode(value = "speedway", subgraph = "speedway"), @NamedAttributeNode("championship") }),
+				@NamedSubgraph(name = "speedway", attributeNodes = @NamedAttributeNode("country")) })
+@Table(uniqueConstraints = {
+		@UniqueConstraint(name = "uk_piloto_corrida_piloto_corrida", columnNames = { "pilot_id_piloto", "race_id_corrida" }),
+		@UniqueConstraint(name = "uk_piloto_corrida_corrida_colocacao", columnNames = { "race_id_corrida", "colocacao" }) })
 public class PilotRace {
 
+	public static final String GRAPH = "PilotRace.full";
+
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "piloto_corrida_seq")
+	@SequenceGenerator(name = "piloto_corrida_seq", sequenceName = "piloto_corrida_seq", allocationSize = 50)
 	@Column(name = "id")
 	@Setter
 	private Integer id;
@@ -0,0 +1,41 @@
+package br.com.trier.springvespertino.models;
+
+import br.com.trier.springvespertino.models.dto.PilotStatsDTO;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = "pilotId")
+@Entity(name = "piloto_estatistica")
+public class PilotStats {
+
+	@Id
+	@Column(name = "pilot_id_piloto")
+	private Integer pilotId;
+
+	@Column(name = "corridas", nullable = false)
+	private long races;
+
+	@Column(name = "vitorias", nullable = false)
+	private long wins;
+
+	@Column(name = "podios", nullable = false)
+	private long podiums;
+
+	// soma e não média: o agregado é mantido por deltas
+	@Column(name = "soma_colocacoes", nullable = false)
+	private long placementSum;
+
+	public PilotStatsDTO toDTO(Pilot pilot) {
+		return new PilotStatsDTO(pilot.getId(), pilot.getName(), races, wins, podiums,
+				races == 0 ? null : (double) placementSum / races);
+	}
+
+}
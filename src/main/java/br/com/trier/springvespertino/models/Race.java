@@ -9,7 +9,13 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
@@ -22,11 +28,22 @@ import lombok.Setter;
 @AllArgsConstructor
 @EqualsAndHashCode (of = "id")
 @Entity(name="corrida")
+@NamedEntityGraph(name = Race.GRAPH, attributeNodes = {
+		@NamedAttributeNode(value = "speedway", subgraph = "speedway"),
+		@NamedAttributeNode("championship") },
+		subgraphs = @NamedSubgraph(name = "speedway", attributeNodes = @NamedAttributeNode("country")))
+@Table(indexes = {
+		@Index(name = "idx_corrida_data", columnList = "data_corrida"),
+		@Index(name = "idx_corrida_pista", columnList = "speedway_id_pista"),
+		@Index(name = "idx_corrida_campeonato", columnList = "championship_codigo_campeonato") })
 public class Race {
 	
+	public static final String GRAPH = "Race.full";
+	
 	@Setter
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "corrida_seq")
+	@SequenceGenerator(name = "corrida_seq", sequenceName = "corrida_seq", allocationSize = 50)
 	@Column(name = "id_corrida")
 	private Integer id;
 
@@ -1,11 +1,18 @@
 package br.com.trier.springvespertino.models;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -17,11 +24,17 @@ import lombok.Setter;
 @AllArgsConstructor
 @EqualsAndHashCode (of = "id")
 @Entity(name="pista")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "pista")
+@Table(indexes = {
+		@Index(name = "idx_pista_pais_tamanho", columnList = "country_id, tamanho_pista"),
+		@Index(name = "idx_pista_tamanho", columnList = "tamanho_pista") })
 public class Speedway {
 	
 	@Setter
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pista_seq")
+	@SequenceGenerator(name = "pista_seq", sequenceName = "pista_seq", allocationSize = 50)
 	@Column(name = "id_pista")
 	private Integer id;
 
@@ -1,10 +1,15 @@
 package br.com.trier.springvespertino.models;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -16,10 +21,13 @@ import lombok.Setter;
 @NoArgsConstructor
 @EqualsAndHashCode (of = "id")
 @Entity (name = "equipe")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "equipe")
 public class Team {
 	
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "equipe_seq")
+	@SequenceGenerator(name = "equipe_seq", sequenceName = "equipe_seq", allocationSize = 50)
 	@Column (name = "id_quipe")
 	@Setter
 	private Integer id;
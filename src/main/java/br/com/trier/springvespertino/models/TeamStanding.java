@@ -0,0 +1,55 @@
+package br.com.trier.springvespertino.models;
+
+import java.io.Serializable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = { "championshipId", "teamId" })
+@Entity(name = "equipe_campeonato")
+@IdClass(TeamStanding.Key.class)
+@Table(indexes = @Index(name = "idx_equipe_campeonato_classificacao", columnList = "championship_codigo_campeonato, pontos"))
+public class TeamStanding {
+
+	@Id
+	@Column(name = "championship_codigo_campeonato")
+	private Integer championshipId;
+
+	@Id
+	@Column(name = "team_id_quipe")
+	private Integer teamId;
+
+	@Column(name = "pontos", nullable = false)
+	private int points;
+
+	@Column(name = "vitorias", nullable = false)
+	private int wins;
+
+	@Column(name = "resultados", nullable = false)
+	private int results;
+
+	@Getter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@EqualsAndHashCode
+	public static class Key implements Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		private Integer championshipId;
+		private Integer teamId;
+
+	}
+
+}
@@ -6,6 +6,9 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -17,11 +20,13 @@ import lombok.Setter;
 @AllArgsConstructor
 @EqualsAndHashCode (of = "id")
 @Entity(name="usuario")
+@Table(indexes = @Index(name = "idx_usuario_nome", columnList = "nome_usuario"))
 public class User {
 	
 	@Setter
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "usuario_seq")
+	@SequenceGenerator(name = "usuario_seq", sequenceName = "usuario_seq", allocationSize = 50)
 	@Column(name = "id_usuario")
 	private Integer id;
 	
@@ -31,6 +36,7 @@ public class User {
 	@Column(name = "email_usuario", unique = true)
 	private String email;
 	
+	@Setter
 	@Column(name = "senha_usuario")
 	private String password;
 	
@@ -1,7 +1,5 @@
 package br.com.trier.springvespertino.models.dto;
 
-import java.util.List;
-
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -11,7 +9,7 @@ import lombok.NoArgsConstructor;
 @Getter
 public class ApostaDto {
 	
-	private List<Integer> dice;
+	private int[] dice;
 	private Integer sum;
 	private Double percent;
 	private String message;
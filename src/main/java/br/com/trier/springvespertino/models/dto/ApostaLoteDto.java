@@ -0,0 +1,24 @@
+package br.com.trier.springvespertino.models.dto;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+public class ApostaLoteDto {
+
+	private Integer diceCount;
+	private Integer bet;
+	private Integer plays;
+	private Integer hits;
+	private Double hitPercent;
+	private Double averageSum;
+	private Double averagePercent;
+	private Map<Integer, Integer> frequencies;
+	private String message;
+
+}
@@ -0,0 +1,18 @@
+package br.com.trier.springvespertino.models.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+public class CacheStatsDTO {
+
+	private long hits;
+	private long misses;
+	private double hitRate;
+	private long size;
+	private long evictions;
+
+}
@@ -0,0 +1,19 @@
+package br.com.trier.springvespertino.models.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+public class ChampionshipStandingsDTO {
+
+	private Integer championshipId;
+	private String championship;
+	private List<PilotStandingDTO> pilots;
+	private List<TeamStandingDTO> teams;
+
+}
@@ -0,0 +1,18 @@
+package br.com.trier.springvespertino.models.dto;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+public class DistribuicaoDto {
+
+	private Integer diceCount;
+	private Map<Integer, Double> probabilities;
+	private Map<Integer, Double> expectedPercent;
+
+}
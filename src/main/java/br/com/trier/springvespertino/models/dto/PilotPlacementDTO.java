@@ -0,0 +1,19 @@
+package br.com.trier.springvespertino.models.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+public class PilotPlacementDTO {
+
+	private Integer pilotId;
+	private String pilotName;
+	private Integer teamId;
+	private String teamName;
+	private Integer placement;
+	private Long total;
+
+}
@@ -0,0 +1,24 @@
+package br.com.trier.springvespertino.models.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+public class PilotStandingDTO {
+
+	private Integer pilotId;
+	private String pilotName;
+	private Integer teamId;
+	private String teamName;
+	private int points;
+	private int wins;
+
+	public void addResult(int points, int wins) {
+		this.points += points;
+		this.wins += wins;
+	}
+
+}
@@ -0,0 +1,19 @@
+package br.com.trier.springvespertino.models.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+public class PilotStatsDTO {
+
+	private Integer pilotId;
+	private String pilotName;
+	private long races;
+	private long wins;
+	private long podiums;
+	private Double averagePlacement;
+
+}
@@ -1,5 +1,8 @@
 package br.com.trier.springvespertino.models.dto;
 
+import java.time.ZonedDateTime;
+
+import br.com.trier.springvespertino.utils.DateUtils;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -16,4 +19,9 @@ public class RaceDTO {
 	private Integer championshipId;
 	private String championshipName;
 
+	public RaceDTO(Integer id, ZonedDateTime date, Integer speedwayId, String speedwayName, Integer championshipId,
+			String championshipName) {
+		this(id, DateUtils.zonedDateTimeToStr(date), speedwayId, speedwayName, championshipId, championshipName);
+	}
+
 }
@@ -0,0 +1,21 @@
+package br.com.trier.springvespertino.models.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+public class SimulacaoDto {
+
+	private Integer diceCount;
+	private Integer bet;
+	private Integer trials;
+	private Double hitPercent;
+	private Double averagePercent;
+	private Double exactHitPercent;
+	private Double exactAveragePercent;
+	private String message;
+
+}
@@ -0,0 +1,44 @@
+package br.com.trier.springvespertino.repositories;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.NoRepositoryBean;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.QueryHint;
+
+@NoRepositoryBean
+public interface KeysetRepository<T> extends JpaRepository<T, Integer> {
+
+	int DEFAULT_LIMIT = 100;
+	int MAX_LIMIT = 1000;
+
+	List<T> findByIdGreaterThanOrderByIdAsc(Integer id, Pageable pageable);
+
+	@QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+			@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+	Stream<T> streamAllByOrderByIdAsc();
+
+	default List<T> findPage(Integer after, Integer limit) {
+		int size = limit == null ? DEFAULT_LIMIT : Math.min(Math.max(limit, 1), MAX_LIMIT);
+		return findByIdGreaterThanOrderByIdAsc(after == null ? 0 : after, PageRequest.of(0, size));
+	}
+
+	// solta cada entidade do contexto depois de usada, para a memória não crescer com o tamanho da tabela
+	default void forEachDetached(EntityManager entityManager, Consumer<? super T> action) {
+		try (Stream<T> stream = streamAllByOrderByIdAsc()) {
+			stream.forEach(entity -> {
+				action.accept(entity);
+				entityManager.detach(entity);
+			});
+		}
+	}
+
+}
@@ -1,21 +1,78 @@
 package br.com.trier.springvespertino.repositories;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import br.com.trier.springvespertino.models.Championship;
 import br.com.trier.springvespertino.models.Pilot;
 import br.com.trier.springvespertino.models.PilotRace;
 import br.com.trier.springvespertino.models.Race;
+import br.com.trier.springvespertino.models.dto.PilotPlacementDTO;
+import jakarta.persistence.QueryHint;
 
 @Repository
-public interface PilotRaceRepository extends JpaRepository<PilotRace, Integer> {
+public interface PilotRaceRepository extends KeysetRepository<PilotRace> {
 	
+	@Override
+	@EntityGraph(PilotRace.GRAPH)
+	List<PilotRace> findAll();
+
+	@Override
+	@EntityGraph(PilotRace.GRAPH)
+	List<PilotRace> findByIdGreaterThanOrderByIdAsc(Integer id, Pageable pageable);
+
+	@Override
+	@EntityGraph(PilotRace.GRAPH)
+	@QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+			@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+	Stream<PilotRace> streamAllByOrderByIdAsc();
+
+	@EntityGraph(PilotRace.GRAPH)
 	List<PilotRace> findByPlacement(Integer placement);
+	@EntityGraph(PilotRace.GRAPH)
 	List<PilotRace> findByPilot(Pilot pilot);
+	@EntityGraph(PilotRace.GRAPH)
 	List<PilotRace> findByRaceOrderByPlacementAsc(Race race);
+	@EntityGraph(PilotRace.GRAPH)
 	List<PilotRace> findByPlacementBetweenAndRace(Integer placementIn, Integer placementFin, Race race);
+	@EntityGraph(PilotRace.GRAPH)
 	PilotRace findByPilotAndRace(Pilot pilot, Race race);
+
+	interface PilotRaceKeys {
+		Integer getId();
+		Integer getRaceId();
+		Integer getPilotId();
+		Integer getPlacement();
+	}
+
+	// candidatas a conflito de uma classificação: o filtro exato por par (corrida, piloto) e (corrida, colocação) fica no serviço
+	@Query("""
+			select pr.id as id, pr.race.id as raceId, pr.pilot.id as pilotId, pr.placement as placement
+			from piloto_corrida pr
+			where pr.race.id in :races and (pr.pilot.id in :pilots or pr.placement in :placements)
+			""")
+	List<PilotRaceKeys> findKeysByRaces(Collection<Integer> races, Collection<Integer> pilots, Collection<Integer> placements);
+
+	@Query("""
+			select new br.com.trier.springvespertino.models.dto.PilotPlacementDTO(p.id, p.name, t.id, t.name, pr.placement, count(pr))
+			from piloto_corrida pr join pr.pilot p join p.team t join pr.race r
+			where r.championship = :championship
+			group by p.id, p.name, t.id, t.name, pr.placement
+			""")
+	List<PilotPlacementDTO> countPlacementsByChampionship(Championship championship);
+
+	@Query("select distinct r.championship.id from piloto_corrida pr join pr.race r where pr.pilot.id = :pilotId")
+	List<Integer> findChampionshipIdsByPilot(Integer pilotId);
+
+	@Query("select distinct r.championship.id from piloto_corrida pr join pr.race r where pr.pilot.team.id = :teamId")
+	List<Integer> findChampionshipIdsByTeam(Integer teamId);
 	
-}
\ No newline at end of file
+}
@@ -1,8 +1,9 @@
 package br.com.trier.springvespertino.repositories;
 
 import java.util.List;
+import java.util.Optional;
 
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import br.com.trier.springvespertino.models.Country;
@@ -10,11 +11,13 @@ import br.com.trier.springvespertino.models.Pilot;
 import br.com.trier.springvespertino.models.Team;
 
 @Repository
-public interface PilotRepository extends JpaRepository<Pilot, Integer>{
+public interface PilotRepository extends KeysetRepository<Pilot> {
 	
 	List<Pilot> findByNameStartsWithIgnoreCase(String name);
 	List<Pilot> findByCountry(Country country);
 	List<Pilot> findByTeam(Team team);
-	
-	
+
+	@Query("select p.team.id from piloto p where p.id = :id")
+	Optional<Integer> findTeamIdById(Integer id);
+
 }
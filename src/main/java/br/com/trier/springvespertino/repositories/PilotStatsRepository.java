@@ -0,0 +1,33 @@
+package br.com.trier.springvespertino.repositories;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import br.com.trier.springvespertino.models.PilotStats;
+
+@Repository
+public interface PilotStatsRepository extends JpaRepository<PilotStats, Integer> {
+
+	@Modifying
+	@Query("""
+			update piloto_estatistica s
+			set s.races = s.races + :races, s.wins = s.wins + :wins,
+				s.podiums = s.podiums + :podiums, s.placementSum = s.placementSum + :placementSum
+			where s.pilotId = :pilotId
+			""")
+	int addDelta(Integer pilotId, long races, long wins, long podiums, long placementSum);
+
+	// serializa as escritas de estatística por piloto: quem segura a linha do piloto pode decidir entre update e insert
+	@Query(nativeQuery = true, value = "select id_piloto from piloto where id_piloto in (:pilotIds) order by id_piloto for update")
+	List<Integer> lockPilots(Collection<Integer> pilotIds);
+
+	@Modifying
+	@Query("delete from piloto_estatistica")
+	int deleteAllStats();
+
+}
@@ -2,19 +2,62 @@ package br.com.trier.springvespertino.repositories;
 
 import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import br.com.trier.springvespertino.models.Championship;
+import br.com.trier.springvespertino.models.Country;
 import br.com.trier.springvespertino.models.Race;
 import br.com.trier.springvespertino.models.Speedway;
+import br.com.trier.springvespertino.models.dto.RaceDTO;
+import jakarta.persistence.QueryHint;
 
 @Repository
-public interface RaceRepository extends JpaRepository<Race, Integer>{
-	
+public interface RaceRepository extends KeysetRepository<Race> {
+
+	@Override
+	@EntityGraph(Race.GRAPH)
+	List<Race> findAll();
+
+	@Override
+	@EntityGraph(Race.GRAPH)
+	List<Race> findByIdGreaterThanOrderByIdAsc(Integer id, Pageable pageable);
+
+	@Override
+	@EntityGraph(Race.GRAPH)
+	@QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+			@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+	Stream<Race> streamAllByOrderByIdAsc();
+
+	@EntityGraph(Race.GRAPH)
 	List<Race> findByDate(ZonedDateTime date);
+	@EntityGraph(Race.GRAPH)
 	List<Race> findBySpeedway(Speedway speedway);
+	@EntityGraph(Race.GRAPH)
 	List<Race> findByChampionship(Championship championship);
 
+	interface RaceKeys {
+		Integer getChampionshipId();
+		Integer getCountryId();
+		ZonedDateTime getDate();
+	}
+
+	@Query("select r.championship.id as championshipId, r.speedway.country.id as countryId, r.date as date from corrida r where r.id = :id")
+	Optional<RaceKeys> findKeysById(Integer id);
+
+	@Query("""
+			select new br.com.trier.springvespertino.models.dto.RaceDTO(r.id, r.date, s.id, s.name, c.id, c.description)
+			from corrida r join r.speedway s left join r.championship c
+			where s.country = :country and r.date >= :start and r.date < :end
+			order by s.size desc, r.date
+			""")
+	List<RaceDTO> findReportByCountryAndDateRange(Country country, ZonedDateTime start, ZonedDateTime end);
+
 }
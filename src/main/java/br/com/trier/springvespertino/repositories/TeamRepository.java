@@ -2,16 +2,19 @@ package br.com.trier.springvespertino.repositories;
 
 import java.util.List;
 
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import br.com.trier.springvespertino.models.Team;
 
 @Repository
-public interface TeamRepository extends JpaRepository<Team, Integer> {
+public interface TeamRepository extends KeysetRepository<Team> {
 
 	List<Team> findByNameIgnoreCase(String name);
 
 	List<Team> findByNameContains(String name);
 
+	boolean existsByNameIgnoreCase(String name);
+
+	boolean existsByNameIgnoreCaseAndIdNot(String name, Integer id);
+
 }
@@ -0,0 +1,49 @@
+package br.com.trier.springvespertino.repositories;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import br.com.trier.springvespertino.models.TeamStanding;
+import br.com.trier.springvespertino.models.dto.TeamStandingDTO;
+
+@Repository
+public interface TeamStandingRepository extends JpaRepository<TeamStanding, TeamStanding.Key> {
+
+	@Query("""
+			select new br.com.trier.springvespertino.models.dto.TeamStandingDTO(t.id, t.name, s.points, s.wins)
+			from equipe_campeonato s join equipe t on t.id = s.teamId
+			where s.championshipId = :championshipId and s.results > 0
+			order by s.points desc, s.wins desc, t.name
+			""")
+	List<TeamStandingDTO> findStandings(Integer championshipId);
+
+	@Modifying
+	@Query("""
+			update equipe_campeonato s
+			set s.points = s.points + :points, s.wins = s.wins + :wins, s.results = s.results + :results
+			where s.championshipId = :championshipId and s.teamId = :teamId
+			""")
+	int addDelta(Integer championshipId, Integer teamId, int points, int wins, int results);
+
+	// serializa as escritas de classificação por equipe: quem segura a linha da equipe pode decidir entre update e insert
+	@Query(nativeQuery = true, value = "select id_quipe from equipe where id_quipe in (:teamIds) order by id_quipe for update")
+	List<Integer> lockTeams(Collection<Integer> teamIds);
+
+	interface ChampionshipPlacement {
+		Integer getChampionshipId();
+		Integer getPlacement();
+	}
+
+	@Query("select r.championship.id as championshipId, pr.placement as placement from piloto_corrida pr join pr.race r where pr.pilot.id = :pilotId")
+	List<ChampionshipPlacement> findPlacementsByPilot(Integer pilotId);
+
+	@Modifying
+	@Query("delete from equipe_campeonato")
+	int deleteAllStandings();
+
+}
@@ -3,16 +3,21 @@ package br.com.trier.springvespertino.repositories;
 import java.util.List;
 import java.util.Optional;
 
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import br.com.trier.springvespertino.models.User;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Integer>{
+public interface UserRepository extends KeysetRepository<User> {
 	
 	List<User> findByNameStartingWithIgnoreCase(String name);
 	Optional<User> findByEmail(String email);
 	Optional<User> findByName(String name);
+	boolean existsByEmail(String email);
+	boolean existsByEmailAndIdNot(String email, Integer id);
+
+	@Query("select u from usuario u where u.password is not null and u.password not like '$2_$%'")
+	List<User> findWithPlainTextPassword();
 
 }
@@ -3,6 +3,7 @@ package br.com.trier.springvespertino.resources;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -11,10 +12,17 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import br.com.trier.springvespertino.models.Championship;
+import br.com.trier.springvespertino.models.dto.ChampionshipStandingsDTO;
 import br.com.trier.springvespertino.services.ChampionshipService;
+import br.com.trier.springvespertino.services.StandingsService;
+import br.com.trier.springvespertino.utils.NdjsonWriter;
 
 @RestController
 @RequestMapping("/championships")
@@ -23,6 +31,12 @@ public class ChampionshipResource {
 	@Autowired
 	private ChampionshipService service;
 	
+	@Autowired
+	private StandingsService standingsService;
+
+	@Autowired
+	private ObjectMapper mapper;
+	
 	@PostMapping
 	public ResponseEntity<Championship> insert(@RequestBody Championship championship) {
 		Championship newChampionship = service.insert(championship);
@@ -60,11 +74,26 @@ public class ChampionshipResource {
 	}
 	
 	@GetMapping
-	public ResponseEntity<List<Championship>> listAll(){
-		List<Championship> lista = service.listAll();
+	public ResponseEntity<List<Championship>> listAll(@RequestParam(required = false) Integer after, @RequestParam(required = false) Integer limit){
+		List<Championship> lista = after == null && limit == null ? service.listAll() : service.listAll(after, limit);
 		return lista.size() > 0 ? ResponseEntity.ok(lista) : ResponseEntity.noContent().build();
 	}
 	
+	@GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> streamAll(){
+		return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(out -> {
+			try (NdjsonWriter<Championship> writer = new NdjsonWriter<>(mapper, out)) {
+				service.streamAll(writer);
+			}
+		});
+	}
+	
+	@GetMapping("/{id}/standings")
+	public ResponseEntity<ChampionshipStandingsDTO> findStandings(@PathVariable Integer id){
+		Championship championship = service.findById(id);
+		return championship!=null ? ResponseEntity.ok(standingsService.findByChampionship(championship)) : ResponseEntity.noContent().build();
+	}
+	
 	@PutMapping("/{id}")
 	public ResponseEntity<Championship> update(@PathVariable Integer id, @RequestBody Championship championship){
 		championship.setId(id);
@@ -3,6 +3,7 @@ package br.com.trier.springvespertino.resources;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -11,10 +12,15 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import br.com.trier.springvespertino.models.Country;
 import br.com.trier.springvespertino.services.CountryService;
+import br.com.trier.springvespertino.utils.NdjsonWriter;
 
 @RestController
 @RequestMapping("/countries")
@@ -22,6 +28,9 @@ public class CountryResources {
 	
 	@Autowired
 	private CountryService service;
+
+	@Autowired
+	private ObjectMapper mapper;
 	
 	@PostMapping
 	public ResponseEntity<Country> save(@RequestBody Country pais){
@@ -43,11 +52,20 @@ public class CountryResources {
 	}
 	
 	@GetMapping()
-	public ResponseEntity<List<Country>> listAll(){
-		List<Country> paises = service.listAll();
+	public ResponseEntity<List<Country>> listAll(@RequestParam(required = false) Integer after, @RequestParam(required = false) Integer limit){
+		List<Country> paises = after == null && limit == null ? service.listAll() : service.listAll(after, limit);
 		return paises.size()>0 ? ResponseEntity.ok(paises) : ResponseEntity.noContent().build();
 	}
 	
+	@GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> streamAll(){
+		return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(out -> {
+			try (NdjsonWriter<Country> writer = new NdjsonWriter<>(mapper, out)) {
+				service.streamAll(writer);
+			}
+		});
+	}
+	
 	@GetMapping("/{id}")
 	public ResponseEntity<Country> findById(@PathVariable Integer id){
 		Country pais = service.findById(id);
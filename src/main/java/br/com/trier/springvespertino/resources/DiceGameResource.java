@@ -1,22 +1,31 @@
 package br.com.trier.springvespertino.resources;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Random;
-
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import br.com.trier.springvespertino.models.dto.ApostaDto;
+import br.com.trier.springvespertino.models.dto.ApostaLoteDto;
+import br.com.trier.springvespertino.models.dto.DistribuicaoDto;
+import br.com.trier.springvespertino.models.dto.SimulacaoDto;
+import br.com.trier.springvespertino.services.DiceService;
 
 @RestController
 @RequestMapping(value = "/dados")
 public class DiceGameResource {
 	
+	private static final int MAX_JOGADAS = 100_000;
+	
+	private static final int MAX_ENSAIOS = 50_000_000;
+	
+	@Autowired
+	private DiceService service;
+	
 	@GetMapping("jogar/{qtDados}/{aposta}")
 	public ResponseEntity<ApostaDto> jogar(@PathVariable int qtDados, @PathVariable int aposta) {
 		ApostaDto retorno = null;
@@ -30,21 +39,63 @@ public class DiceGameResource {
 		}
 		
 		int soma = 0;
-		List<Integer> sorteados = new ArrayList<Integer>();
-		for(int i=0; i<qtDados; i++) {
-			int vl = sorteia();
-			sorteados.add(vl);
+		int[] sorteados = service.roll(qtDados);
+		for(int vl : sorteados) {
 			soma += vl;
 		}
 		
 		if(soma == aposta) {
 			retorno = new ApostaDto(sorteados, soma, null, "Parabéns, você acertou!");
 		}else {
-			retorno = new ApostaDto(sorteados, soma, percDif(aposta, soma), "Não foi desta vez!");
+			retorno = new ApostaDto(sorteados, soma, service.percDif(aposta, soma), "Não foi desta vez!");
 		}
 		return ResponseEntity.ok(retorno);
 	}
 	
+	@GetMapping("jogar-lote/{qtDados}/{aposta}")
+	public ResponseEntity<ApostaLoteDto> jogarLote(@PathVariable int qtDados, @PathVariable int aposta, @RequestParam(defaultValue = "1000") int jogadas) {
+		if(! validaDados(qtDados)) {
+			return new ResponseEntity<ApostaLoteDto>(lote("Quantidade de dados inválida. Permitido entre 1 e 4"), HttpStatus.NO_CONTENT);
+		}
+		if(!validaAposta(qtDados, aposta)) {
+			return new ResponseEntity<ApostaLoteDto>(lote("Valor da aposta inválida de acordo com a quantidade de dados informada"), HttpStatus.NO_CONTENT);
+		}
+		if(jogadas < 1 || jogadas > MAX_JOGADAS) {
+			return new ResponseEntity<ApostaLoteDto>(lote("Quantidade de jogadas inválida. Permitido entre 1 e %s".formatted(MAX_JOGADAS)), HttpStatus.NO_CONTENT);
+		}
+		return ResponseEntity.ok(service.playBatch(qtDados, aposta, jogadas));
+	}
+	
+	@GetMapping("probabilidades/{qtDados}")
+	public ResponseEntity<DistribuicaoDto> probabilidades(@PathVariable int qtDados) {
+		if(! validaDados(qtDados)) {
+			return new ResponseEntity<DistribuicaoDto>(HttpStatus.NO_CONTENT);
+		}
+		return ResponseEntity.ok(service.distribution(qtDados));
+	}
+	
+	@GetMapping("simular/{qtDados}/{aposta}")
+	public ResponseEntity<SimulacaoDto> simular(@PathVariable int qtDados, @PathVariable int aposta, @RequestParam(defaultValue = "1000000") int ensaios) {
+		if(! validaDados(qtDados)) {
+			return new ResponseEntity<SimulacaoDto>(simulacao("Quantidade de dados inválida. Permitido entre 1 e 4"), HttpStatus.NO_CONTENT);
+		}
+		if(!validaAposta(qtDados, aposta)) {
+			return new ResponseEntity<SimulacaoDto>(simulacao("Valor da aposta inválida de acordo com a quantidade de dados informada"), HttpStatus.NO_CONTENT);
+		}
+		if(ensaios < 1 || ensaios > MAX_ENSAIOS) {
+			return new ResponseEntity<SimulacaoDto>(simulacao("Quantidade de ensaios inválida. Permitido entre 1 e %s".formatted(MAX_ENSAIOS)), HttpStatus.NO_CONTENT);
+		}
+		return ResponseEntity.ok(service.simulate(qtDados, aposta, ensaios));
+	}
+	
+	private SimulacaoDto simulacao(String message) {
+		return new SimulacaoDto(null, null, null, null, null, null, null, message);
+	}
+	
+	private ApostaLoteDto lote(String message) {
+		return new ApostaLoteDto(null, null, null, null, null, null, null, null, message);
+	}
+	
 	private boolean validaAposta(int qtDados, int aposta) {
 		int min = qtDados;
 		int max = qtDados * 6;
@@ -58,15 +109,5 @@ public class DiceGameResource {
 		return qtDados >= 1 && qtDados <= 4;
 	}
 	
-	private int sorteia() {
-		Random r = new Random();
-		return r.nextInt(6) + 1;
-	}
-	
-	private double percDif(int n1, int n2) {
-		double diferenca = Math.abs(n1 - n2);
-		return (diferenca / Math.max(n1, n2)) * 100;
-	}
-	
 
 }
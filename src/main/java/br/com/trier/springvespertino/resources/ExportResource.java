@@ -0,0 +1,60 @@
+package br.com.trier.springvespertino.resources;
+
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import br.com.trier.springvespertino.services.ExportService;
+import br.com.trier.springvespertino.utils.ResultsExportWriter;
+
+@RestController
+@RequestMapping("/export")
+public class ExportResource {
+
+	private static final int GZIP_BUFFER = 64 * 1024;
+
+	@Autowired
+	private ExportService service;
+
+	private static boolean acceptsGzip(String acceptEncoding) {
+		if (acceptEncoding == null) {
+			return false;
+		}
+		for (String encoding : acceptEncoding.split(",")) {
+			String[] parts = encoding.trim().split(";");
+			if (parts[0].trim().equalsIgnoreCase("gzip")) {
+				return parts.length == 1 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+			}
+		}
+		return false;
+	}
+
+	@GetMapping("/pilot-race")
+	ResponseEntity<StreamingResponseBody> exportPilotRaces(@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+		boolean gzip = acceptsGzip(acceptEncoding);
+		ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+				.contentType(MediaType.parseMediaType(ResultsExportWriter.MEDIA_TYPE))
+				.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+		if (gzip) {
+			response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+		}
+		return response.body(out -> {
+			if (gzip) {
+				GZIPOutputStream gzipOut = new GZIPOutputStream(out, GZIP_BUFFER);
+				service.exportResults(gzipOut);
+				gzipOut.finish();
+			} else {
+				service.exportResults(out);
+			}
+		});
+	}
+
+}
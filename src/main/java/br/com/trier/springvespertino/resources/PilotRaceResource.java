@@ -1,8 +1,12 @@
 package br.com.trier.springvespertino.resources;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -11,13 +15,20 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.trier.springvespertino.models.Pilot;
 import br.com.trier.springvespertino.models.PilotRace;
+import br.com.trier.springvespertino.models.Race;
 import br.com.trier.springvespertino.models.dto.PilotRaceDTO;
 import br.com.trier.springvespertino.services.PilotRaceService;
 import br.com.trier.springvespertino.services.PilotService;
 import br.com.trier.springvespertino.services.RaceService;
+import br.com.trier.springvespertino.utils.NdjsonWriter;
 
 @RestController
 @RequestMapping("/pilot-race")
@@ -33,6 +44,9 @@ public class PilotRaceResource {
     @Autowired
     RaceService corridaService;
 
+    @Autowired
+    ObjectMapper mapper;
+
     @PostMapping
     public ResponseEntity<PilotRaceDTO> insert(@RequestBody PilotRaceDTO pilotoCorridaDTO) {
     	return ResponseEntity.ok(service.insert(new PilotRace(pilotoCorridaDTO,
@@ -41,14 +55,36 @@ public class PilotRaceResource {
     			.toDTO());
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<PilotRaceDTO>> insertAll(@RequestBody List<PilotRaceDTO> pilotoCorridaDTOs) {
+    	Map<Integer, Pilot> pilotos = pilotoService.findAllById(pilotoCorridaDTOs.stream().map(PilotRaceDTO::getIdPilot).collect(Collectors.toSet()))
+    			.stream().collect(Collectors.toMap(Pilot::getId, Function.identity()));
+    	Map<Integer, Race> corridas = corridaService.findAllById(pilotoCorridaDTOs.stream().map(PilotRaceDTO::getIdRace).collect(Collectors.toSet()))
+    			.stream().collect(Collectors.toMap(Race::getId, Function.identity()));
+    	List<PilotRace> lista = pilotoCorridaDTOs.stream()
+    			.map(dto -> new PilotRace(dto, pilotos.get(dto.getIdPilot()), corridas.get(dto.getIdRace())))
+    			.toList();
+    	return ResponseEntity.ok(service.insertAll(lista).stream().map(PilotRace::toDTO).toList());
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<PilotRaceDTO> findById(@PathVariable Integer id) {
         return ResponseEntity.ok(service.findById(id).toDTO());
     }
 
     @GetMapping
-    public ResponseEntity<List<PilotRaceDTO>> listAll() {
-    	return ResponseEntity.ok(service.listAll().stream().map(PilotRace::toDTO).toList());
+    public ResponseEntity<List<PilotRaceDTO>> listAll(@RequestParam(required = false) Integer after, @RequestParam(required = false) Integer limit) {
+    	List<PilotRace> lista = after == null && limit == null ? service.listAll() : service.listAll(after, limit);
+    	return ResponseEntity.ok(lista.stream().map(PilotRace::toDTO).toList());
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAll() {
+    	return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(out -> {
+    		try (NdjsonWriter<PilotRaceDTO> writer = new NdjsonWriter<>(mapper, out)) {
+    			service.streamAll(pilotRace -> writer.accept(pilotRace.toDTO()));
+    		}
+    	});
     }
 
     @PutMapping("/{id}")
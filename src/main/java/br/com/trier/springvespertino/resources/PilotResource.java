@@ -3,7 +3,9 @@ package br.com.trier.springvespertino.resources;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.annotation.Secured;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -11,12 +13,19 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import br.com.trier.springvespertino.models.Pilot;
+import br.com.trier.springvespertino.models.dto.PilotStatsDTO;
 import br.com.trier.springvespertino.services.CountryService;
 import br.com.trier.springvespertino.services.PilotService;
+import br.com.trier.springvespertino.services.PilotStatsService;
 import br.com.trier.springvespertino.services.TeamService;
+import br.com.trier.springvespertino.utils.NdjsonWriter;
 
 @RestController
 @RequestMapping("/pilot")
@@ -25,12 +34,18 @@ public class PilotResource {
 	@Autowired
 	private PilotService service;
 
+	@Autowired
+	private ObjectMapper mapper;
+
 	@Autowired
 	private CountryService countryService;
 	
 	@Autowired
 	private TeamService teamService;
 
+	@Autowired
+	private PilotStatsService statsService;
+
 	@GetMapping("/{id}")
 	public ResponseEntity<Pilot> findById(@PathVariable Integer id) {
 		return ResponseEntity.ok(service.findById(id));
@@ -44,8 +59,17 @@ public class PilotResource {
 	}
 
 	@GetMapping
-	ResponseEntity<List<Pilot>> listAll() {
-		return ResponseEntity.ok(service.listAll());
+	ResponseEntity<List<Pilot>> listAll(@RequestParam(required = false) Integer after, @RequestParam(required = false) Integer limit) {
+		return ResponseEntity.ok(after == null && limit == null ? service.listAll() : service.listAll(after, limit));
+	}
+
+	@GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+	ResponseEntity<StreamingResponseBody> streamAll() {
+		return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(out -> {
+			try (NdjsonWriter<Pilot> writer = new NdjsonWriter<>(mapper, out)) {
+				service.streamAll(writer);
+			}
+		});
 	}
 
 	@PutMapping("/{id}")
@@ -77,4 +101,15 @@ public class PilotResource {
 		return ResponseEntity.ok(service.findByTeam(teamService.findById(idTeam)));
 	}
 
+	@GetMapping("/{id}/stats")
+	ResponseEntity<PilotStatsDTO> findStats(@PathVariable Integer id) {
+		return ResponseEntity.ok(statsService.findByPilot(service.findById(id)));
+	}
+
+	@Secured({"ROLE_ADMIN"})
+	@PostMapping("/stats/rebuild")
+	ResponseEntity<Integer> rebuildStats() {
+		return ResponseEntity.ok(statsService.rebuild());
+	}
+
 }
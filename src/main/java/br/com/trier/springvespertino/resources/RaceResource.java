@@ -3,6 +3,7 @@ package br.com.trier.springvespertino.resources;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,6 +14,9 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import br.com.trier.springvespertino.models.Championship;
 import br.com.trier.springvespertino.models.Race;
@@ -22,6 +26,7 @@ import br.com.trier.springvespertino.services.ChampionshipService;
 import br.com.trier.springvespertino.services.RaceService;
 import br.com.trier.springvespertino.services.SpeedwayService;
 import br.com.trier.springvespertino.utils.DateUtils;
+import br.com.trier.springvespertino.utils.NdjsonWriter;
 
 @RestController
 @RequestMapping("/racers")
@@ -30,6 +35,9 @@ public class RaceResource {
 	@Autowired
 	private RaceService service;
 
+	@Autowired
+	private ObjectMapper mapper;
+
 	@Autowired
 	private SpeedwayService speedwayService;
 	
@@ -51,13 +59,23 @@ public class RaceResource {
 	}
 
 	@GetMapping
-	ResponseEntity<List<RaceDTO>> listAll() {
-		return ResponseEntity.ok(service.listAll()
+	ResponseEntity<List<RaceDTO>> listAll(@RequestParam(required = false) Integer after, @RequestParam(required = false) Integer limit) {
+		List<Race> lista = after == null && limit == null ? service.listAll() : service.listAll(after, limit);
+		return ResponseEntity.ok(lista
 				.stream()
 				.map((race) -> race.toDTO())
 				.toList());
 	}
 
+	@GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+	ResponseEntity<StreamingResponseBody> streamAll() {
+		return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(out -> {
+			try (NdjsonWriter<RaceDTO> writer = new NdjsonWriter<>(mapper, out)) {
+				service.streamAll(race -> writer.accept(race.toDTO()));
+			}
+		});
+	}
+
 	@PutMapping("/{id}")
 	ResponseEntity<RaceDTO> update(@PathVariable Integer id, @RequestBody RaceDTO raceDTO) {
 		Speedway speedway = speedwayService.findById(raceDTO.getSpeedwayId());
@@ -3,6 +3,7 @@ package br.com.trier.springvespertino.resources;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -11,11 +12,16 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import br.com.trier.springvespertino.models.Speedway;
 import br.com.trier.springvespertino.services.CountryService;
 import br.com.trier.springvespertino.services.SpeedwayService;
+import br.com.trier.springvespertino.utils.NdjsonWriter;
 
 @RestController
 @RequestMapping("/speedway")
@@ -24,6 +30,9 @@ public class SpeedwayResource {
 	@Autowired
 	private SpeedwayService service;
 
+	@Autowired
+	private ObjectMapper mapper;
+
 	@Autowired
 	private CountryService countryService;
 
@@ -39,8 +48,17 @@ public class SpeedwayResource {
 	}
 
 	@GetMapping
-	ResponseEntity<List<Speedway>> listAll() {
-		return ResponseEntity.ok(service.listAll());
+	ResponseEntity<List<Speedway>> listAll(@RequestParam(required = false) Integer after, @RequestParam(required = false) Integer limit) {
+		return ResponseEntity.ok(after == null && limit == null ? service.listAll() : service.listAll(after, limit));
+	}
+
+	@GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+	ResponseEntity<StreamingResponseBody> streamAll() {
+		return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(out -> {
+			try (NdjsonWriter<Speedway> writer = new NdjsonWriter<>(mapper, out)) {
+				service.streamAll(writer);
+			}
+		});
 	}
 
 	@PutMapping("/{id}")
@@ -3,7 +3,9 @@ package br.com.trier.springvespertino.resources;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.annotation.Secured;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -11,10 +13,19 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.trier.springvespertino.models.Championship;
 import br.com.trier.springvespertino.models.Team;
+import br.com.trier.springvespertino.models.dto.TeamStandingDTO;
+import br.com.trier.springvespertino.services.ChampionshipService;
 import br.com.trier.springvespertino.services.TeamService;
+import br.com.trier.springvespertino.services.TeamStandingsService;
+import br.com.trier.springvespertino.utils.NdjsonWriter;
 
 @RestController
 @RequestMapping("/teams")
@@ -22,6 +33,15 @@ public class TeamResource {
 	
 	@Autowired
 	private TeamService service;
+
+	@Autowired
+	private ObjectMapper mapper;
+
+	@Autowired
+	private ChampionshipService championshipService;
+
+	@Autowired
+	private TeamStandingsService standingsService;
 	
 	@PostMapping
 	public ResponseEntity<Team> insert(@RequestBody Team equipe) {
@@ -30,11 +50,20 @@ public class TeamResource {
 	}
 	
 	@GetMapping
-	public ResponseEntity<List<Team>> listarTodos(){
-		List<Team> lista = service.listAll();
+	public ResponseEntity<List<Team>> listarTodos(@RequestParam(required = false) Integer after, @RequestParam(required = false) Integer limit){
+		List<Team> lista = after == null && limit == null ? service.listAll() : service.listAll(after, limit);
 		return lista != null ? ResponseEntity.ok(lista) : ResponseEntity.noContent().build();
 	}
 	
+	@GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> streamAll(){
+		return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(out -> {
+			try (NdjsonWriter<Team> writer = new NdjsonWriter<>(mapper, out)) {
+				service.streamAll(writer);
+			}
+		});
+	}
+	
 	@GetMapping ("/{id}")
 	public ResponseEntity<Team> buscaPorCodigo(@PathVariable Integer id) {
 		Team newEquipe = service.findById(id);
@@ -66,4 +95,16 @@ public class TeamResource {
 		return lista.size() > 0 ? ResponseEntity.ok(lista) : ResponseEntity.noContent().build();
 	}
 
+	@GetMapping ("/standings/{championshipId}")
+	public ResponseEntity<List<TeamStandingDTO>> classificacao(@PathVariable Integer championshipId) {
+		Championship championship = championshipService.findById(championshipId);
+		return championship != null ? ResponseEntity.ok(standingsService.findByChampionship(championship)) : ResponseEntity.noContent().build();
+	}
+
+	@Secured({"ROLE_ADMIN"})
+	@PostMapping ("/standings/rebuild")
+	public ResponseEntity<Integer> reconstruirClassificacao() {
+		return ResponseEntity.ok(standingsService.rebuild());
+	}
+
 }
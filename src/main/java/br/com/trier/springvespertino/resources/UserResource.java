@@ -3,6 +3,7 @@ package br.com.trier.springvespertino.resources;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -12,11 +13,16 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import br.com.trier.springvespertino.models.User;
 import br.com.trier.springvespertino.models.dto.UserDTO;
 import br.com.trier.springvespertino.services.UserService;
+import br.com.trier.springvespertino.utils.NdjsonWriter;
 
 @RestController
 @RequestMapping("/users")
@@ -24,6 +30,9 @@ public class UserResource {
 	
 	@Autowired
 	private UserService service;
+
+	@Autowired
+	private ObjectMapper mapper;
 	
 	@Secured({"ROLE_ADMIN"})
 	@PostMapping
@@ -47,12 +56,23 @@ public class UserResource {
 	
 	@Secured({"ROLE_USER"})
 	@GetMapping
-	public ResponseEntity<List<UserDTO>> listAll(){
-		return ResponseEntity.ok(service.listAll().stream()
+	public ResponseEntity<List<UserDTO>> listAll(@RequestParam(required = false) Integer after, @RequestParam(required = false) Integer limit){
+		List<User> lista = after == null && limit == null ? service.listAll() : service.listAll(after, limit);
+		return ResponseEntity.ok(lista.stream()
 				.map((user) -> user.toDTO())
 				.toList());
 	}
 	
+	@Secured({"ROLE_USER"})
+	@GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> streamAll(){
+		return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(out -> {
+			try (NdjsonWriter<UserDTO> writer = new NdjsonWriter<>(mapper, out)) {
+				service.streamAll(user -> writer.accept(user.toDTO()));
+			}
+		});
+	}
+	
 	@Secured({"ROLE_ADMIN"})
 	@PutMapping("/{id}")
 	public ResponseEntity<UserDTO> update(@PathVariable Integer id, @RequestBody UserDTO userDTO){
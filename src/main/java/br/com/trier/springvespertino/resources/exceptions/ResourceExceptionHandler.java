@@ -2,30 +2,38 @@ package br.com.trier.springvespertino.resources.exceptions;
 
 import java.time.LocalDateTime;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
 import br.com.trier.springvespertino.services.exceptions.IntegrityViolation;
 import br.com.trier.springvespertino.services.exceptions.ObjectNotFound;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 
 @ControllerAdvice
 public class ResourceExceptionHandler {
+
+	@Autowired
+	private MeterRegistry registry;
 	
 	@ExceptionHandler(ObjectNotFound.class)
-	public ResponseEntity<StandardError> getObjectNotFoundExcpetion(ObjectNotFound ex, HttpServletRequest req){
-		StandardError error = new StandardError(LocalDateTime.now(), HttpStatus.NOT_FOUND.value(), ex.getMessage(), req.getRequestURI());
-		return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+	public ResponseEntity<byte[]> getObjectNotFoundExcpetion(ObjectNotFound ex, HttpServletRequest req){
+		return error(HttpStatus.NOT_FOUND, ex, req);
 	}
 	
 	@ExceptionHandler(IntegrityViolation.class)
-	public ResponseEntity<StandardError> getIntegrityViolationExcpetion(IntegrityViolation ex, HttpServletRequest req){
-		StandardError error = new StandardError(LocalDateTime.now(), HttpStatus.BAD_REQUEST.value(), ex.getMessage(), req.getRequestURI());
-		return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+	public ResponseEntity<byte[]> getIntegrityViolationExcpetion(IntegrityViolation ex, HttpServletRequest req){
+		return error(HttpStatus.BAD_REQUEST, ex, req);
 	}
 	
-	
+	private ResponseEntity<byte[]> error(HttpStatus status, RuntimeException ex, HttpServletRequest req) {
+		registry.counter("http.errors", "exception", ex.getClass().getSimpleName(), "status", String.valueOf(status.value())).increment();
+		StandardError error = new StandardError(LocalDateTime.now(), status.value(), ex.getMessage(), req.getRequestURI());
+		return ResponseEntity.status(status).contentType(MediaType.APPLICATION_JSON).body(error.toJson());
+	}
 
 }
@@ -1,6 +1,8 @@
 package br.com.trier.springvespertino.resources.exceptions;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -9,9 +11,48 @@ import lombok.Getter;
 @Getter
 public class StandardError {
 	
+	private static final char[] HEX = "0123456789abcdef".toCharArray();
+
 	private LocalDateTime time;
 	private Integer status;
 	private String error;
 	private String url;
 
+	// mesmo JSON que o Jackson geraria, montado à mão: é a resposta mais frequente da API
+	public byte[] toJson() {
+		StringBuilder sb = new StringBuilder(64 + (error == null ? 0 : error.length()) + (url == null ? 0 : url.length()));
+		sb.append("{\"time\":");
+		if (time == null) {
+			sb.append("null");
+		} else {
+			DateTimeFormatter.ISO_LOCAL_DATE_TIME.formatTo(time, sb.append('"'));
+			sb.append('"');
+		}
+		sb.append(",\"status\":").append(status);
+		sb.append(",\"error\":");
+		appendString(sb, error);
+		sb.append(",\"url\":");
+		appendString(sb, url);
+		return sb.append('}').toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static void appendString(StringBuilder sb, String value) {
+		if (value == null) {
+			sb.append("null");
+			return;
+		}
+		sb.append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == '"' || c == '\\') {
+				sb.append('\\').append(c);
+			} else if (c < 0x20) {
+				sb.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+			} else {
+				sb.append(c);
+			}
+		}
+		sb.append('"');
+	}
+
 }
@@ -1,6 +1,7 @@
 package br.com.trier.springvespertino.services;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import br.com.trier.springvespertino.models.Championship;
 
@@ -12,6 +13,10 @@ public interface ChampionshipService {
 
 	List<Championship> listAll();
 
+	List<Championship> listAll(Integer after, Integer limit);
+
+	void streamAll(Consumer<Championship> action);
+
 	Championship update(Championship championship);
 
 	void delete(Integer id);
@@ -1,6 +1,7 @@
 package br.com.trier.springvespertino.services;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import br.com.trier.springvespertino.models.Country;
 
@@ -14,6 +15,10 @@ public interface CountryService {
 
 	List<Country> listAll();
 
+	List<Country> listAll(Integer after, Integer limit);
+
+	void streamAll(Consumer<Country> action);
+
 	Country findById(Integer id);
 
 	List<Country> findByNomeEqualsIgnoreCase(String nome);
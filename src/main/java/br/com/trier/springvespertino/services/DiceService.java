@@ -0,0 +1,19 @@
+package br.com.trier.springvespertino.services;
+
+import br.com.trier.springvespertino.models.dto.ApostaLoteDto;
+import br.com.trier.springvespertino.models.dto.DistribuicaoDto;
+import br.com.trier.springvespertino.models.dto.SimulacaoDto;
+
+public interface DiceService {
+
+	int[] roll(int qtDados);
+
+	double percDif(int aposta, int soma);
+
+	ApostaLoteDto playBatch(int qtDados, int aposta, int jogadas);
+
+	DistribuicaoDto distribution(int qtDados);
+
+	SimulacaoDto simulate(int qtDados, int aposta, int ensaios);
+
+}
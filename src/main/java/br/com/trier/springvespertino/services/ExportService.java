@@ -0,0 +1,10 @@
+package br.com.trier.springvespertino.services;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface ExportService {
+
+	void exportResults(OutputStream out) throws IOException;
+
+}
@@ -1,6 +1,7 @@
 package br.com.trier.springvespertino.services;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import br.com.trier.springvespertino.models.Pilot;
 import br.com.trier.springvespertino.models.PilotRace;
@@ -12,8 +13,14 @@ public interface PilotRaceService {
 
 	PilotRace insert(PilotRace pilotRace);
 
+	List<PilotRace> insertAll(List<PilotRace> pilotRaces);
+
 	List<PilotRace> listAll();
 
+	List<PilotRace> listAll(Integer after, Integer limit);
+
+	void streamAll(Consumer<PilotRace> action);
+
 	PilotRace update(PilotRace pilotRace);
 
 	void delete(Integer id);
@@ -1,6 +1,8 @@
 package br.com.trier.springvespertino.services;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 import br.com.trier.springvespertino.models.Country;
 import br.com.trier.springvespertino.models.Pilot;
@@ -10,10 +12,18 @@ public interface PilotService {
 
 	Pilot findById(Integer id);
 
+	boolean existsById(Integer id);
+
+	List<Pilot> findAllById(Collection<Integer> ids);
+
 	Pilot insert(Pilot pilot);
 
 	List<Pilot> listAll();
 
+	List<Pilot> listAll(Integer after, Integer limit);
+
+	void streamAll(Consumer<Pilot> action);
+
 	Pilot update(Pilot pilot);
 
 	void delete(Integer id);
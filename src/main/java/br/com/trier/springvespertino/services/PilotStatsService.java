@@ -0,0 +1,19 @@
+package br.com.trier.springvespertino.services;
+
+import java.util.Collection;
+
+import br.com.trier.springvespertino.models.Pilot;
+import br.com.trier.springvespertino.models.PilotRace;
+import br.com.trier.springvespertino.models.dto.PilotStatsDTO;
+
+public interface PilotStatsService {
+
+	PilotStatsDTO findByPilot(Pilot pilot);
+
+	void add(Collection<PilotRace> pilotRaces);
+
+	void remove(PilotRace pilotRace);
+
+	int rebuild();
+
+}
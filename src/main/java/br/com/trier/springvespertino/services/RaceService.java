@@ -1,20 +1,32 @@
 package br.com.trier.springvespertino.services;
 
 import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 import br.com.trier.springvespertino.models.Championship;
+import br.com.trier.springvespertino.models.Country;
 import br.com.trier.springvespertino.models.Race;
 import br.com.trier.springvespertino.models.Speedway;
+import br.com.trier.springvespertino.models.dto.RaceDTO;
 
 public interface RaceService {
 
 	Race findById(Integer id);
 
+	boolean existsById(Integer id);
+
+	List<Race> findAllById(Collection<Integer> ids);
+
 	Race insert(Race race);
 
 	List<Race> listAll();
 
+	List<Race> listAll(Integer after, Integer limit);
+
+	void streamAll(Consumer<Race> action);
+
 	Race update(Race race);
 
 	void delete(Integer id);
@@ -25,4 +37,6 @@ public interface RaceService {
 
 	List<Race> findByChampionship(Championship championship);
 
+	List<RaceDTO> findReportByCountryAndYear(Country country, Integer year);
+
 }
@@ -0,0 +1,13 @@
+package br.com.trier.springvespertino.services;
+
+import br.com.trier.springvespertino.models.dto.CacheStatsDTO;
+
+public interface ReportService {
+
+	byte[] findRaceByCountryAndYear(Integer countryId, Integer year);
+
+	int warmUp(Integer year);
+
+	CacheStatsDTO cacheStats();
+
+}
@@ -1,6 +1,7 @@
 package br.com.trier.springvespertino.services;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import br.com.trier.springvespertino.models.Country;
 import br.com.trier.springvespertino.models.Speedway;
@@ -9,10 +10,16 @@ public interface SpeedwayService {
 
 	Speedway findById(Integer id);
 
+	boolean existsById(Integer id);
+
 	Speedway insert(Speedway speedway);
 
 	List<Speedway> listAll();
 
+	List<Speedway> listAll(Integer after, Integer limit);
+
+	void streamAll(Consumer<Speedway> action);
+
 	Speedway update(Speedway speedway);
 
 	void delete(Integer id);
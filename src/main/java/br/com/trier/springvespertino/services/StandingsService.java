@@ -0,0 +1,18 @@
+package br.com.trier.springvespertino.services;
+
+import br.com.trier.springvespertino.models.Championship;
+import br.com.trier.springvespertino.models.dto.ChampionshipStandingsDTO;
+
+public interface StandingsService {
+
+	ChampionshipStandingsDTO findByChampionship(Championship championship);
+
+	void evict(Championship championship);
+
+	void evict(Integer championshipId);
+
+	void evictByPilot(Integer pilotId);
+
+	void evictByTeam(Integer teamId);
+
+}
@@ -1,6 +1,7 @@
 package br.com.trier.springvespertino.services;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import br.com.trier.springvespertino.models.Team;
 
@@ -10,8 +11,14 @@ public interface TeamService {
 
 	List<Team> listAll();
 
+	List<Team> listAll(Integer after, Integer limit);
+
+	void streamAll(Consumer<Team> action);
+
 	Team findById(Integer id);
 
+	boolean existsById(Integer id);
+
 	Team update(Team team);
 
 	void delete(Integer id);
@@ -0,0 +1,22 @@
+package br.com.trier.springvespertino.services;
+
+import java.util.Collection;
+import java.util.List;
+
+import br.com.trier.springvespertino.models.Championship;
+import br.com.trier.springvespertino.models.PilotRace;
+import br.com.trier.springvespertino.models.dto.TeamStandingDTO;
+
+public interface TeamStandingsService {
+
+	List<TeamStandingDTO> findByChampionship(Championship championship);
+
+	void add(Collection<PilotRace> pilotRaces);
+
+	void remove(PilotRace pilotRace);
+
+	void moveResults(Integer pilotId, Integer fromTeamId, Integer toTeamId);
+
+	int rebuild();
+
+}
@@ -1,6 +1,7 @@
 package br.com.trier.springvespertino.services;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import br.com.trier.springvespertino.models.User;
 
@@ -11,6 +12,10 @@ public interface UserService {
 	User insert(User user);
 
 	List<User> listAll();
+
+	List<User> listAll(Integer after, Integer limit);
+
+	void streamAll(Consumer<User> action);
 	
 	User update(User user);
 	
@@ -18,4 +23,6 @@ public interface UserService {
 	
 	List<User> findByName(String name);
 
+	int hashPlainTextPasswords();
+
 }
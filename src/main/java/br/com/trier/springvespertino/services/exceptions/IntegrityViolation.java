@@ -1,6 +1,6 @@
 package br.com.trier.springvespertino.services.exceptions;
 
-public class IntegrityViolation extends RuntimeException{
+public class IntegrityViolation extends ServiceException{
 	
 	public IntegrityViolation(String message) {
 		super(message);
@@ -1,6 +1,6 @@
 package br.com.trier.springvespertino.services.exceptions;
 
-public class ObjectNotFound extends RuntimeException{
+public class ObjectNotFound extends ServiceException{
 	
 	public ObjectNotFound(String message) {
 		super(message);
@@ -0,0 +1,17 @@
+package br.com.trier.springvespertino.services.exceptions;
+
+public abstract class ServiceException extends RuntimeException {
+
+	// erros de negócio são respostas esperadas (404/400): o stack trace só é preenchido para depuração
+	private static volatile boolean stackTraces;
+
+	protected ServiceException(String message) {
+		super(message, null, false, stackTraces);
+	}
+
+	// ligado pelo ExceptionConfig a partir de app.exceptions.stack-traces
+	public static void setStackTraces(boolean enabled) {
+		stackTraces = enabled;
+	}
+
+}
@@ -2,14 +2,20 @@ package br.com.trier.springvespertino.services.impl;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import br.com.trier.springvespertino.config.ReportCache;
 import br.com.trier.springvespertino.models.Championship;
 import br.com.trier.springvespertino.repositories.ChampionshipRepository;
 import br.com.trier.springvespertino.services.ChampionshipService;
+import br.com.trier.springvespertino.services.StandingsService;
 import br.com.trier.springvespertino.services.exceptions.IntegrityViolation;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 
 @Service
 public class ChampionshipServiceImpl implements ChampionshipService {
@@ -17,6 +23,15 @@ public class ChampionshipServiceImpl implements ChampionshipService {
 	@Autowired
 	private ChampionshipRepository repository;
 
+	@Autowired
+	private ReportCache reportCache;
+
+	@Autowired
+	private StandingsService standingsService;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
 	private void validYear(Championship championship) {
 		if (championship.getYear() == null) {
 			throw new IntegrityViolation("Ano não pode ser nulo");
@@ -27,6 +42,7 @@ public class ChampionshipServiceImpl implements ChampionshipService {
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public Championship findById(Integer id) {
 		return repository.findById(id).orElse(null);
 	}
@@ -38,14 +54,32 @@ public class ChampionshipServiceImpl implements ChampionshipService {
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public List<Championship> listAll() {
 		return repository.findAll();
 	}
 
+	@Override
+	@Transactional(readOnly = true)
+	public List<Championship> listAll(Integer after, Integer limit) {
+		return repository.findPage(after, limit);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public void streamAll(Consumer<Championship> action) {
+		repository.forEachDetached(entityManager, action);
+	}
+
 	@Override
 	public Championship update(Championship championship) {
 		validYear(championship);
-		return repository.save(championship);
+		Championship saved = repository.save(championship);
+		// a descrição do campeonato vai em cada corrida do relatório por país
+		reportCache.invalidateAll();
+		// e na classificação do campeonato
+		standingsService.evict(saved);
+		return saved;
 	}
 
 	@Override
@@ -53,25 +87,30 @@ public class ChampionshipServiceImpl implements ChampionshipService {
 		Championship championship = findById(id);
 		if (championship != null) {
 			repository.delete(championship);
+			reportCache.invalidateAll();
 		}
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public List<Championship> findByYearBetween(Integer start, Integer end) {
 		return repository.findByYearBetween(start, end);
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public List<Championship> findByYear(Integer year) {
 		return repository.findByYear(year);
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public List<Championship> findByDescriptionContainsIgnoreCase(String descricao) {
 		return repository.findByDescriptionContainsIgnoreCase(descricao);
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public List<Championship> findByescriptionContainsIgnoreCaseAndAnoEquals(String descricao, Integer ano) {
 		return repository.findByDescriptionContainsIgnoreCaseAndYearEquals(descricao, ano);
 	}
@@ -2,14 +2,19 @@ package br.com.trier.springvespertino.services.impl;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import br.com.trier.springvespertino.config.ReportCache;
 import br.com.trier.springvespertino.models.Country;
 import br.com.trier.springvespertino.repositories.CountryRepository;
 import br.com.trier.springvespertino.services.CountryService;
 import br.com.trier.springvespertino.services.exceptions.ObjectNotFound;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 
 @Service
 public class CountryServiceImpl implements CountryService{
@@ -17,6 +22,12 @@ public class CountryServiceImpl implements CountryService{
 	@Autowired
 	private CountryRepository repository;
 
+	@Autowired
+	private ReportCache reportCache;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
 	@Override
 	public Country salvar(Country country) {
 		return repository.save(country);
@@ -24,7 +35,9 @@ public class CountryServiceImpl implements CountryService{
 
 	@Override
 	public Country update(Country country) {
-		return repository.save(country);
+		Country saved = repository.save(country);
+		reportCache.invalidateCountry(saved.getId());
+		return saved;
 	}
 
 	@Override
@@ -32,22 +45,38 @@ public class CountryServiceImpl implements CountryService{
 		Country country = findById(id);
 		if(country != null) {
 			repository.delete(country);
+			reportCache.invalidateCountry(id);
 		}
 		
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public List<Country> listAll() {
 		return repository.findAll();
 	}
 
 	@Override
+	@Transactional(readOnly = true)
+	public List<Country> listAll(Integer after, Integer limit) {
+		return repository.findPage(after, limit);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public void streamAll(Consumer<Country> action) {
+		repository.forEachDetached(entityManager, action);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
 	public Country findById(Integer id) {
 		Optional<Country> country = repository.findById(id);
 		return country.orElseThrow(()->new ObjectNotFound("País não existe"));
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public List<Country> findByNomeEqualsIgnoreCase(String nome) {
 		return repository.findByNameEqualsIgnoreCase(nome);
 	}
@@ -0,0 +1,169 @@
+package br.com.trier.springvespertino.services.impl;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+import org.springframework.stereotype.Service;
+
+import br.com.trier.springvespertino.models.dto.ApostaLoteDto;
+import br.com.trier.springvespertino.models.dto.DistribuicaoDto;
+import br.com.trier.springvespertino.models.dto.SimulacaoDto;
+import br.com.trier.springvespertino.services.DiceService;
+
+@Service
+public class DiceServiceImpl implements DiceService {
+
+	private static final int MAX_DADOS = 4;
+
+	private static final int CHUNKS_POR_THREAD = 8;
+
+	// [qtDados][soma]
+	private final double[][] probabilidades = new double[MAX_DADOS + 1][];
+
+	// [qtDados][aposta]
+	private final double[][] percDifEsperado = new double[MAX_DADOS + 1][];
+
+	private final DistribuicaoDto[] distribuicoes = new DistribuicaoDto[MAX_DADOS + 1];
+
+	public DiceServiceImpl() {
+		long[] combinacoes = { 1 };
+		for (int qtDados = 1; qtDados <= MAX_DADOS; qtDados++) {
+			long[] proximo = new long[qtDados * 6 + 1];
+			for (int soma = 0; soma < combinacoes.length; soma++) {
+				for (int face = 1; face <= 6; face++) {
+					proximo[soma + face] += combinacoes[soma];
+				}
+			}
+			combinacoes = proximo;
+			probabilidades[qtDados] = probabilidades(combinacoes);
+			percDifEsperado[qtDados] = new double[combinacoes.length];
+			Map<Integer, Double> porSoma = new LinkedHashMap<>();
+			Map<Integer, Double> porAposta = new LinkedHashMap<>();
+			for (int aposta = qtDados; aposta < combinacoes.length; aposta++) {
+				percDifEsperado[qtDados][aposta] = percDifEsperado(probabilidades[qtDados], qtDados, aposta);
+				porSoma.put(aposta, probabilidades[qtDados][aposta]);
+				porAposta.put(aposta, percDifEsperado[qtDados][aposta]);
+			}
+			distribuicoes[qtDados] = new DistribuicaoDto(qtDados, Collections.unmodifiableMap(porSoma), Collections.unmodifiableMap(porAposta));
+		}
+	}
+
+	private double[] probabilidades(long[] combinacoes) {
+		long total = 0;
+		for (long c : combinacoes) {
+			total += c;
+		}
+		double[] p = new double[combinacoes.length];
+		for (int soma = 0; soma < combinacoes.length; soma++) {
+			p[soma] = (double) combinacoes[soma] / total;
+		}
+		return p;
+	}
+
+	private double percDifEsperado(double[] p, int qtDados, int aposta) {
+		double esperado = 0;
+		for (int soma = qtDados; soma < p.length; soma++) {
+			esperado += p[soma] * percDif(aposta, soma);
+		}
+		return esperado;
+	}
+
+	@Override
+	public int[] roll(int qtDados) {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		int[] dados = new int[qtDados];
+		for (int i = 0; i < qtDados; i++) {
+			dados[i] = random.nextInt(1, 7);
+		}
+		return dados;
+	}
+
+	@Override
+	public double percDif(int aposta, int soma) {
+		double diferenca = Math.abs(aposta - soma);
+		return (diferenca / Math.max(aposta, soma)) * 100;
+	}
+
+	@Override
+	public ApostaLoteDto playBatch(int qtDados, int aposta, int jogadas) {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		int[] frequencias = new int[qtDados * 6 + 1];
+		long somaTotal = 0;
+		double percDifTotal = 0;
+		for (int j = 0; j < jogadas; j++) {
+			int soma = 0;
+			for (int i = 0; i < qtDados; i++) {
+				soma += random.nextInt(1, 7);
+			}
+			frequencias[soma]++;
+			somaTotal += soma;
+			percDifTotal += percDif(aposta, soma);
+		}
+		int acertos = frequencias[aposta];
+		Map<Integer, Integer> porSoma = new LinkedHashMap<>();
+		for (int soma = qtDados; soma < frequencias.length; soma++) {
+			porSoma.put(soma, frequencias[soma]);
+		}
+		return new ApostaLoteDto(qtDados, aposta, jogadas, acertos,
+				acertos * 100.0 / jogadas,
+				(double) somaTotal / jogadas,
+				percDifTotal / jogadas,
+				porSoma,
+				acertos > 0 ? "Você acertou %s de %s jogadas!".formatted(acertos, jogadas) : "Não foi desta vez!");
+	}
+
+	@Override
+	public DistribuicaoDto distribution(int qtDados) {
+		return distribuicoes[qtDados];
+	}
+
+	@Override
+	public SimulacaoDto simulate(int qtDados, int aposta, int ensaios) {
+		int chunks = Math.min(ensaios, ForkJoinPool.getCommonPoolParallelism() * CHUNKS_POR_THREAD);
+		SplittableRandom raiz = new SplittableRandom();
+		SplittableRandom[] randoms = new SplittableRandom[chunks];
+		for (int i = 0; i < chunks; i++) {
+			randoms[i] = raiz.split();
+		}
+		long[] frequencias = IntStream.range(0, chunks).parallel()
+				.mapToObj(i -> simulate(randoms[i], qtDados, ensaios / chunks + (i < ensaios % chunks ? 1 : 0)))
+				.reduce(new long[qtDados * 6 + 1], this::merge);
+
+		double percDifTotal = 0;
+		for (int soma = qtDados; soma < frequencias.length; soma++) {
+			percDifTotal += frequencias[soma] * percDif(aposta, soma);
+		}
+		return new SimulacaoDto(qtDados, aposta, ensaios,
+				frequencias[aposta] * 100.0 / ensaios,
+				percDifTotal / ensaios,
+				probabilidades[qtDados][aposta] * 100,
+				percDifEsperado[qtDados][aposta],
+				null);
+	}
+
+	private long[] simulate(SplittableRandom random, int qtDados, int ensaios) {
+		long[] frequencias = new long[qtDados * 6 + 1];
+		for (int j = 0; j < ensaios; j++) {
+			int soma = 0;
+			for (int i = 0; i < qtDados; i++) {
+				soma += random.nextInt(1, 7);
+			}
+			frequencias[soma]++;
+		}
+		return frequencias;
+	}
+
+	private long[] merge(long[] a, long[] b) {
+		long[] total = new long[a.length];
+		for (int i = 0; i < a.length; i++) {
+			total[i] = a[i] + b[i];
+		}
+		return total;
+	}
+
+}
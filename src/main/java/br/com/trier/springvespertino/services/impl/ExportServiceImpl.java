@@ -0,0 +1,50 @@
+package br.com.trier.springvespertino.services.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.com.trier.springvespertino.services.ExportService;
+import br.com.trier.springvespertino.utils.ResultsExportWriter;
+
+@Service
+public class ExportServiceImpl implements ExportService {
+
+	private static final int FETCH_SIZE = 1000;
+
+	private static final String RESULTS_SQL = """
+			select pr.id as id, pr.colocacao as colocacao, r.id_corrida as corrida_id, r.data_corrida as corrida_data,
+				p.id_piloto as piloto_id, p.nome_piloto as piloto_nome, s.id_pista as pista_id, s.nome_pista as pista_nome,
+				c.codigo_campeonato as campeonato_id, c.descricao as campeonato_nome, c.ano as campeonato_ano
+			from piloto_corrida pr
+			join piloto p on p.id_piloto = pr.pilot_id_piloto
+			join corrida r on r.id_corrida = pr.race_id_corrida
+			join pista s on s.id_pista = r.speedway_id_pista
+			join campeonato c on c.codigo_campeonato = r.championship_codigo_campeonato
+			order by pr.id
+			""";
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	// transação somente leitura: no Postgres o fetch size só vira cursor com autocommit desligado
+	@Override
+	@Transactional(readOnly = true)
+	public void exportResults(OutputStream out) throws IOException {
+		try (ResultsExportWriter writer = new ResultsExportWriter(out)) {
+			jdbcTemplate.query(con -> {
+				PreparedStatement ps = con.prepareStatement(RESULTS_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+				ps.setFetchSize(FETCH_SIZE);
+				return ps;
+			}, writer);
+			writer.finish();
+		}
+	}
+
+}
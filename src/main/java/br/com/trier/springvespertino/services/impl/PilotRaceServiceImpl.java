@@ -1,17 +1,29 @@
 package br.com.trier.springvespertino.services.impl;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import br.com.trier.springvespertino.models.Pilot;
 import br.com.trier.springvespertino.models.PilotRace;
 import br.com.trier.springvespertino.models.Race;
 import br.com.trier.springvespertino.repositories.PilotRaceRepository;
+import br.com.trier.springvespertino.repositories.PilotRaceRepository.PilotRaceKeys;
 import br.com.trier.springvespertino.services.PilotRaceService;
+import br.com.trier.springvespertino.services.PilotStatsService;
+import br.com.trier.springvespertino.services.StandingsService;
+import br.com.trier.springvespertino.services.TeamStandingsService;
 import br.com.trier.springvespertino.services.exceptions.IntegrityViolation;
 import br.com.trier.springvespertino.services.exceptions.ObjectNotFound;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 
 @Service
 public class PilotRaceServiceImpl implements PilotRaceService {
@@ -19,6 +31,18 @@ public class PilotRaceServiceImpl implements PilotRaceService {
 	@Autowired
 	private PilotRaceRepository repository;
 
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Autowired
+	private StandingsService standingsService;
+
+	@Autowired
+	private PilotStatsService pilotStatsService;
+
+	@Autowired
+	private TeamStandingsService teamStandingsService;
+
 	private void checkPilotRace(PilotRace pilotRace) {
 		
 		if (pilotRace.getPlacement() == null) {
@@ -29,18 +53,78 @@ public class PilotRaceServiceImpl implements PilotRaceService {
 		}
 	}
 
+	// valida dentro do lote e contra o banco numa consulta só; a concorrência fica com as constraints únicas
+	private void checkClassification(List<PilotRace> pilotRaces) {
+		Set<List<Integer>> placements = new HashSet<>();
+		Set<List<Integer>> pilots = new HashSet<>();
+		for (PilotRace pilotRace : pilotRaces) {
+			checkPilotRace(pilotRace);
+			Integer raceId = pilotRace.getRace().getId();
+			if (!placements.add(List.of(raceId, pilotRace.getPlacement()))) {
+				throw new IntegrityViolation("Colocacao %s repetida na corrida %s!".formatted(pilotRace.getPlacement(), raceId));
+			}
+			if (!pilots.add(List.of(raceId, pilotRace.getPilot().getId()))) {
+				throw new IntegrityViolation("Piloto %s repetido na corrida %s!".formatted(pilotRace.getPilot().getId(), raceId));
+			}
+		}
+		if (pilotRaces.isEmpty()) {
+			return;
+		}
+		Set<Integer> ids = pilotRaces.stream().map(PilotRace::getId).filter(Objects::nonNull).collect(Collectors.toSet());
+		List<PilotRaceKeys> existing = repository.findKeysByRaces(
+				pilotRaces.stream().map(pilotRace -> pilotRace.getRace().getId()).collect(Collectors.toSet()),
+				pilotRaces.stream().map(pilotRace -> pilotRace.getPilot().getId()).collect(Collectors.toSet()),
+				pilotRaces.stream().map(PilotRace::getPlacement).collect(Collectors.toSet()));
+		for (PilotRaceKeys keys : existing) {
+			// a linha que está sendo alterada não conflita com ela mesma
+			if (ids.contains(keys.getId())) {
+				continue;
+			}
+			if (pilots.contains(List.of(keys.getRaceId(), keys.getPilotId()))) {
+				throw new IntegrityViolation("Piloto %s repetido na corrida %s!".formatted(keys.getPilotId(), keys.getRaceId()));
+			}
+			if (placements.contains(List.of(keys.getRaceId(), keys.getPlacement()))) {
+				throw new IntegrityViolation("Colocacao %s repetida na corrida %s!".formatted(keys.getPlacement(), keys.getRaceId()));
+			}
+		}
+	}
+
+	private void evictStandings(PilotRace pilotRace) {
+		if (pilotRace.getRace() != null) {
+			standingsService.evict(pilotRace.getRace().getChampionship());
+		}
+	}
+
 	@Override
+	@Transactional(readOnly = true)
 	public PilotRace findById(Integer id) {
 		return repository.findById(id).orElseThrow(() -> new ObjectNotFound("ID %s inválido!".formatted(id)));
 	}
 
 	@Override
+	@Transactional
 	public PilotRace insert(PilotRace pilotRace) {
-		checkPilotRace(pilotRace);
-		return repository.save(pilotRace);
+		checkClassification(List.of(pilotRace));
+		PilotRace saved = repository.save(pilotRace);
+		pilotStatsService.add(List.of(saved));
+		teamStandingsService.add(List.of(saved));
+		evictStandings(saved);
+		return saved;
+	}
+
+	@Override
+	@Transactional
+	public List<PilotRace> insertAll(List<PilotRace> pilotRaces) {
+		checkClassification(pilotRaces);
+		List<PilotRace> saved = repository.saveAll(pilotRaces);
+		pilotStatsService.add(saved);
+		teamStandingsService.add(saved);
+		saved.forEach(this::evictStandings);
+		return saved;
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public List<PilotRace> listAll() {
 		List<PilotRace> list = repository.findAll();
 		if (list.isEmpty()) {
@@ -50,20 +134,46 @@ public class PilotRaceServiceImpl implements PilotRaceService {
 	}
 
 	@Override
+	@Transactional(readOnly = true)
+	public List<PilotRace> listAll(Integer after, Integer limit) {
+		return repository.findPage(after, limit);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public void streamAll(Consumer<PilotRace> action) {
+		repository.forEachDetached(entityManager, action);
+	}
+
+	@Override
+	@Transactional
 	public PilotRace update(PilotRace pilotRace) {
-		findById(pilotRace.getId());
-		checkPilotRace(pilotRace);
-		return repository.save(pilotRace);
+		PilotRace old = findById(pilotRace.getId());
+		checkClassification(List.of(pilotRace));
+		// o delta sai antes do save: o merge sobrescreve a instância antiga gerenciada
+		pilotStatsService.remove(old);
+		teamStandingsService.remove(old);
+		evictStandings(old);
+		PilotRace saved = repository.save(pilotRace);
+		pilotStatsService.add(List.of(saved));
+		teamStandingsService.add(List.of(saved));
+		evictStandings(saved);
+		return saved;
 	}
 
 	@Override
+	@Transactional
 	public void delete(Integer id) {
 		PilotRace pilotRace = findById(id);
 		repository.delete(pilotRace);
+		pilotStatsService.remove(pilotRace);
+		teamStandingsService.remove(pilotRace);
+		evictStandings(pilotRace);
 
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public List<PilotRace> findByPlacement(Integer placement) {
 		List<PilotRace> list = repository.findByPlacement(placement);
 		if (list.isEmpty()) {
@@ -73,6 +183,7 @@ public class PilotRaceServiceImpl implements PilotRaceService {
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public List<PilotRace> findByPilot(Pilot pilot) {
 		List<PilotRace> list = repository.findByPilot(pilot);
 		if (list.isEmpty()) {
@@ -82,6 +193,7 @@ public class PilotRaceServiceImpl implements PilotRaceService {
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public List<PilotRace> findByRaceOrderByPlacementAsc(Race race) {
 		List<PilotRace> list = repository.findByRaceOrderByPlacementAsc(race);
 		if (list.isEmpty()) {
@@ -91,6 +203,7 @@ public class PilotRaceServiceImpl implements PilotRaceService {
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public List<PilotRace> findByPlacementBetweenAndRace(Integer placementIn, Integer placementFin, Race race) {
 		List<PilotRace> list = repository.findByPlacementBetweenAndRace(placementIn, placementFin, race);
 		if (list.isEmpty()) {
@@ -100,6 +213,7 @@ public class PilotRaceServiceImpl implements PilotRaceService {
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public PilotRace findByPilotAndRace(Pilot pilot, Race race) {
 		PilotRace pilotRace = repository.findByPilotAndRace(pilot, race);
 		if (pilotRace == null) {
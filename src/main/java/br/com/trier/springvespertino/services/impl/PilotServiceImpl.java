@@ -1,16 +1,28 @@
 package br.com.trier.springvespertino.services.impl;
 
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import br.com.trier.springvespertino.models.Country;
 import br.com.trier.springvespertino.models.Pilot;
 import br.com.trier.springvespertino.models.Team;
 import br.com.trier.springvespertino.repositories.PilotRepository;
 import br.com.trier.springvespertino.services.PilotService;
+import br.com.trier.springvespertino.services.StandingsService;
+import br.com.trier.springvespertino.services.TeamStandingsService;
+import br.com.trier.springvespertino.services.exceptions.IntegrityViolation;
 import br.com.trier.springvespertino.services.exceptions.ObjectNotFound;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 
 @Service
 public class PilotServiceImpl implements PilotService {
@@ -18,17 +30,50 @@ public class PilotServiceImpl implements PilotService {
 	@Autowired
 	private PilotRepository repository;
 
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Autowired
+	private TeamStandingsService teamStandingsService;
+
+	@Autowired
+	private StandingsService standingsService;
+
 	@Override
+	@Transactional(readOnly = true)
 	public Pilot findById(Integer id) {
 		return repository.findById(id).orElseThrow(() -> new ObjectNotFound("Pilot %s não existe".formatted(id)));
 	}
 
+	@Override
+	@Transactional(readOnly = true)
+	public boolean existsById(Integer id) {
+		return repository.existsById(id);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public List<Pilot> findAllById(Collection<Integer> ids) {
+		if (ids.stream().anyMatch(Objects::isNull)) {
+			throw new IntegrityViolation("ID null!");
+		}
+		Set<Integer> unique = new LinkedHashSet<>(ids);
+		List<Pilot> lista = repository.findAllById(unique);
+		if (lista.size() < unique.size()) {
+			Set<Integer> found = lista.stream().map(Pilot::getId).collect(Collectors.toSet());
+			Integer missing = unique.stream().filter(id -> !found.contains(id)).findFirst().orElseThrow();
+			throw new ObjectNotFound("Pilot %s não existe".formatted(missing));
+		}
+		return lista;
+	}
+
 	@Override
 	public Pilot insert(Pilot pilot) {
 		return repository.save(pilot);
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public List<Pilot> listAll() {
 		List<Pilot> lista = repository.findAll();
 		if (lista.isEmpty()) {
@@ -38,9 +83,29 @@ public class PilotServiceImpl implements PilotService {
 	}
 
 	@Override
+	@Transactional(readOnly = true)
+	public List<Pilot> listAll(Integer after, Integer limit) {
+		return repository.findPage(after, limit);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public void streamAll(Consumer<Pilot> action) {
+		repository.forEachDetached(entityManager, action);
+	}
+
+	@Override
+	@Transactional
 	public Pilot update(Pilot pilot) {
-		findById(pilot.getId());
-		return repository.save(pilot);
+		Integer oldTeamId = repository.findTeamIdById(pilot.getId())
+				.orElseThrow(() -> new ObjectNotFound("Pilot %s não existe".formatted(pilot.getId())));
+		Pilot saved = repository.save(pilot);
+		Integer newTeamId = saved.getTeam() == null ? null : saved.getTeam().getId();
+		if (!Objects.equals(oldTeamId, newTeamId)) {
+			teamStandingsService.moveResults(saved.getId(), oldTeamId, newTeamId);
+		}
+		standingsService.evictByPilot(saved.getId());
+		return saved;
 	}
 
 	@Override
@@ -50,6 +115,7 @@ public class PilotServiceImpl implements PilotService {
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public List<Pilot> findByNameStartsWithIgnoreCase(String name) {
 		List<Pilot> lista = repository.findByNameStartsWithIgnoreCase(name);
 		if (lista.isEmpty()) {
@@ -59,6 +125,7 @@ public class PilotServiceImpl implements PilotService {
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public List<Pilot> findByCountry(Country country) {
 		List<Pilot> lista = repository.findByCountry(country);
 		if (lista.isEmpty()) {
@@ -68,6 +135,7 @@ public class PilotServiceImpl implements PilotService {
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public List<Pilot> findByTeam(Team team) {
 		List<Pilot> lista = repository.findByTeam(team);
 		if (lista.isEmpty()) {
@@ -0,0 +1,101 @@
+package br.com.trier.springvespertino.services.impl;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.hibernate.query.NativeQuery;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.com.trier.springvespertino.models.Pilot;
+import br.com.trier.springvespertino.models.PilotRace;
+import br.com.trier.springvespertino.models.PilotStats;
+import br.com.trier.springvespertino.models.dto.PilotStatsDTO;
+import br.com.trier.springvespertino.repositories.PilotStatsRepository;
+import br.com.trier.springvespertino.services.PilotStatsService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+@Service
+public class PilotStatsServiceImpl implements PilotStatsService {
+
+	private static final int RACES = 0, WINS = 1, PODIUMS = 2, PLACEMENT_SUM = 3;
+
+	private static final String REBUILD_SQL = """
+			insert into piloto_estatistica (pilot_id_piloto, corridas, vitorias, podios, soma_colocacoes)
+			select pilot_id_piloto, count(*),
+				sum(case when colocacao = 1 then 1 else 0 end),
+				sum(case when colocacao <= 3 then 1 else 0 end),
+				sum(colocacao)
+			from piloto_corrida
+			group by pilot_id_piloto
+			""";
+
+	@Autowired
+	private PilotStatsRepository repository;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	private static void accumulate(long[] delta, Integer placement, int sign) {
+		delta[RACES] += sign;
+		delta[WINS] += placement == 1 ? sign : 0;
+		delta[PODIUMS] += placement <= 3 ? sign : 0;
+		delta[PLACEMENT_SUM] += (long) sign * placement;
+	}
+
+	private int apply(Integer pilotId, long[] delta) {
+		return repository.addDelta(pilotId, delta[RACES], delta[WINS], delta[PODIUMS], delta[PLACEMENT_SUM]);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public PilotStatsDTO findByPilot(Pilot pilot) {
+		return repository.findById(pilot.getId()).orElseGet(() -> new PilotStats(pilot.getId(), 0, 0, 0, 0))
+				.toDTO(pilot);
+	}
+
+	@Override
+	@Transactional
+	public void add(Collection<PilotRace> pilotRaces) {
+		// um update por piloto, mesmo quando o lote traz vários resultados dele
+		Map<Integer, long[]> deltas = new LinkedHashMap<>();
+		for (PilotRace pilotRace : pilotRaces) {
+			accumulate(deltas.computeIfAbsent(pilotRace.getPilot().getId(), id -> new long[4]), pilotRace.getPlacement(), 1);
+		}
+		if (deltas.isEmpty()) {
+			return;
+		}
+		// sem o lock, duas transações podem não achar a linha e tentar o mesmo insert
+		repository.lockPilots(deltas.keySet());
+		deltas.forEach((pilotId, delta) -> {
+			if (apply(pilotId, delta) == 0) {
+				entityManager.persist(new PilotStats(pilotId, delta[RACES], delta[WINS], delta[PODIUMS], delta[PLACEMENT_SUM]));
+			}
+		});
+	}
+
+	@Override
+	@Transactional
+	public void remove(PilotRace pilotRace) {
+		long[] delta = new long[4];
+		accumulate(delta, pilotRace.getPlacement(), -1);
+		apply(pilotRace.getPilot().getId(), delta);
+	}
+
+	@Override
+	@Transactional
+	public int rebuild() {
+		// o auto-flush do SQL nativo só cobre a entidade sincronizada: as escritas pendentes em resultados, corridas e pilotos precisam ir antes
+		entityManager.flush();
+		repository.deleteAllStats();
+		// sem a entidade sincronizada, o Hibernate invalida todas as regiões do cache L2 depois de um update nativo
+		return entityManager.createNativeQuery(REBUILD_SQL)
+				.unwrap(NativeQuery.class)
+				.addSynchronizedEntityClass(PilotStats.class)
+				.executeUpdate();
+	}
+
+}
@@ -1,18 +1,35 @@
 package br.com.trier.springvespertino.services.impl;
 
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import br.com.trier.springvespertino.config.ReportCache;
 import br.com.trier.springvespertino.models.Championship;
+import br.com.trier.springvespertino.models.Country;
 import br.com.trier.springvespertino.models.Race;
 import br.com.trier.springvespertino.models.Speedway;
+import br.com.trier.springvespertino.models.dto.RaceDTO;
 import br.com.trier.springvespertino.repositories.RaceRepository;
+import br.com.trier.springvespertino.repositories.RaceRepository.RaceKeys;
 import br.com.trier.springvespertino.services.RaceService;
+import br.com.trier.springvespertino.services.StandingsService;
+import br.com.trier.springvespertino.services.TeamStandingsService;
 import br.com.trier.springvespertino.services.exceptions.IntegrityViolation;
 import br.com.trier.springvespertino.services.exceptions.ObjectNotFound;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 
 @Service
 public class RaceServiceImpl implements RaceService {
@@ -20,6 +37,18 @@ public class RaceServiceImpl implements RaceService {
 	@Autowired
 	private RaceRepository repository;
 
+	@Autowired
+	private TeamStandingsService teamStandingsService;
+
+	@Autowired
+	private StandingsService standingsService;
+
+	@Autowired
+	private ReportCache reportCache;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
 	private void validateRace(Race race) {
 		if (race.getChampionship() == null) {
 			throw new IntegrityViolation("Campeonato não pode ser nulo");
@@ -35,18 +64,44 @@ public class RaceServiceImpl implements RaceService {
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public Race findById(Integer id) {
 		return repository.findById(id)
 				.orElseThrow(()->new ObjectNotFound("Corrida %s não existe".formatted(id)));
 	}
 
+	@Override
+	@Transactional(readOnly = true)
+	public boolean existsById(Integer id) {
+		return repository.existsById(id);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public List<Race> findAllById(Collection<Integer> ids) {
+		if (ids.stream().anyMatch(Objects::isNull)) {
+			throw new IntegrityViolation("ID null!");
+		}
+		Set<Integer> unique = new LinkedHashSet<>(ids);
+		List<Race> lista = repository.findAllById(unique);
+		if (lista.size() < unique.size()) {
+			Set<Integer> found = lista.stream().map(Race::getId).collect(Collectors.toSet());
+			Integer missing = unique.stream().filter(id -> !found.contains(id)).findFirst().orElseThrow();
+			throw new ObjectNotFound("Corrida %s não existe".formatted(missing));
+		}
+		return lista;
+	}
+
 	@Override
 	public Race insert(Race race) {
 		validateRace(race);
-		return repository.save(race);
+		Race saved = repository.save(race);
+		reportCache.invalidate(saved);
+		return saved;
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public List<Race> listAll() {
 		List<Race> lista = repository.findAll();
 		if(lista.isEmpty()) {
@@ -56,18 +111,44 @@ public class RaceServiceImpl implements RaceService {
 	}
 
 	@Override
+	@Transactional(readOnly = true)
+	public List<Race> listAll(Integer after, Integer limit) {
+		return repository.findPage(after, limit);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public void streamAll(Consumer<Race> action) {
+		repository.forEachDetached(entityManager, action);
+	}
+
+	@Override
+	@Transactional
 	public Race update(Race race) {
-		findById(race.getId());
+		RaceKeys old = repository.findKeysById(race.getId())
+				.orElseThrow(() -> new ObjectNotFound("Corrida %s não existe".formatted(race.getId())));
 		validateRace(race);
-		return repository.save(race);
+		Race saved = repository.save(race);
+		// os resultados da corrida mudam de campeonato
+		if (!old.getChampionshipId().equals(saved.getChampionship().getId())) {
+			teamStandingsService.rebuild();
+			standingsService.evict(old.getChampionshipId());
+			standingsService.evict(saved.getChampionship());
+		}
+		reportCache.invalidate(old.getCountryId(), old.getDate());
+		reportCache.invalidate(saved);
+		return saved;
 	}
 
 	@Override
 	public void delete(Integer id) {
-		repository.delete(findById(id));
+		Race race = findById(id);
+		repository.delete(race);
+		reportCache.invalidate(race);
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public List<Race> findByDate(ZonedDateTime date) {
 		List<Race> lista = repository.findByDate(date);
 		if(lista.isEmpty()) {
@@ -77,6 +158,7 @@ public class RaceServiceImpl implements RaceService {
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public List<Race> findBySpeedway(Speedway speedway) {
 		List<Race> lista = repository.findBySpeedway(speedway);
 		if(lista.isEmpty()) {
@@ -86,6 +168,7 @@ public class RaceServiceImpl implements RaceService {
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public List<Race> findByChampionship(Championship championship) {
 		List<Race> lista = repository.findByChampionship(championship);
 		if(lista.isEmpty()) {
@@ -94,4 +177,11 @@ public class RaceServiceImpl implements RaceService {
 		return lista;
 	}
 
+	@Override
+	@Transactional(readOnly = true)
+	public List<RaceDTO> findReportByCountryAndYear(Country country, Integer year) {
+		ZonedDateTime start = LocalDate.of(year, 1, 1).atStartOfDay(ZoneId.systemDefault());
+		return repository.findReportByCountryAndDateRange(country, start, start.plusYears(1));
+	}
+
 }
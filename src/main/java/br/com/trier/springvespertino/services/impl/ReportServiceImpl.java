@@ -0,0 +1,50 @@
+package br.com.trier.springvespertino.services.impl;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import br.com.trier.springvespertino.config.ReportCache;
+import br.com.trier.springvespertino.models.Country;
+import br.com.trier.springvespertino.models.dto.CacheStatsDTO;
+import br.com.trier.springvespertino.models.dto.RaceCountryYearDTO;
+import br.com.trier.springvespertino.models.dto.RaceDTO;
+import br.com.trier.springvespertino.services.CountryService;
+import br.com.trier.springvespertino.services.RaceService;
+import br.com.trier.springvespertino.services.ReportService;
+
+@Service
+public class ReportServiceImpl implements ReportService {
+
+	@Autowired
+	private CountryService countryService;
+
+	@Autowired
+	private RaceService raceService;
+
+	@Autowired
+	private ReportCache cache;
+
+	@Override
+	public byte[] findRaceByCountryAndYear(Integer countryId, Integer year) {
+		return cache.get(countryId, year, () -> {
+			Country country = countryService.findById(countryId);
+			List<RaceDTO> raceDTOs = raceService.findReportByCountryAndYear(country, year);
+			return new RaceCountryYearDTO(year, country.getName(), raceDTOs.size(), raceDTOs);
+		});
+	}
+
+	@Override
+	public int warmUp(Integer year) {
+		List<Country> countries = countryService.listAll();
+		countries.forEach(country -> findRaceByCountryAndYear(country.getId(), year));
+		return countries.size();
+	}
+
+	@Override
+	public CacheStatsDTO cacheStats() {
+		return cache.stats();
+	}
+
+}
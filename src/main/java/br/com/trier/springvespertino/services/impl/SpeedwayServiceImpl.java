@@ -1,16 +1,21 @@
 package br.com.trier.springvespertino.services.impl;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import br.com.trier.springvespertino.config.ReportCache;
 import br.com.trier.springvespertino.models.Country;
 import br.com.trier.springvespertino.models.Speedway;
 import br.com.trier.springvespertino.repositories.SpeedwayRepository;
 import br.com.trier.springvespertino.services.SpeedwayService;
 import br.com.trier.springvespertino.services.exceptions.IntegrityViolation;
 import br.com.trier.springvespertino.services.exceptions.ObjectNotFound;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 
 @Service
 public class SpeedwayServiceImpl implements SpeedwayService {
@@ -18,6 +23,12 @@ public class SpeedwayServiceImpl implements SpeedwayService {
 	@Autowired
 	private SpeedwayRepository repository;
 
+	@Autowired
+	private ReportCache reportCache;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
 	private void validateSpeedway(Speedway speedway) {
 		if (speedway.getSize() == null || speedway.getSize() <= 0) {
 			throw new IntegrityViolation("Tamanho da pista inválido");
@@ -25,11 +36,18 @@ public class SpeedwayServiceImpl implements SpeedwayService {
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public Speedway findById(Integer id) {
 		return repository.findById(id)
 				.orElseThrow(() -> new ObjectNotFound("Pista %s não existe".formatted(id)));
 	}
 
+	@Override
+	@Transactional(readOnly = true)
+	public boolean existsById(Integer id) {
+		return repository.existsById(id);
+	}
+
 	@Override
 	public Speedway insert(Speedway speedway) {
 		validateSpeedway(speedway);
@@ -37,6 +55,7 @@ public class SpeedwayServiceImpl implements SpeedwayService {
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public List<Speedway> listAll() {
 		List<Speedway> lista = repository.findAll();
 		if(lista.isEmpty()) {
@@ -45,20 +64,44 @@ public class SpeedwayServiceImpl implements SpeedwayService {
 		return lista;
 	}
 
+	@Override
+	@Transactional(readOnly = true)
+	public List<Speedway> listAll(Integer after, Integer limit) {
+		return repository.findPage(after, limit);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public void streamAll(Consumer<Speedway> action) {
+		repository.forEachDetached(entityManager, action);
+	}
+
 	@Override
 	public Speedway update(Speedway speedway) {
-		findById(speedway.getId());
+		Speedway old = findById(speedway.getId());
 		validateSpeedway(speedway);
-		return repository.save(speedway);
+		Speedway saved = repository.save(speedway);
+		// nome e tamanho aparecem no relatório por país; a pista pode ter mudado de país
+		invalidateReports(old);
+		invalidateReports(saved);
+		return saved;
 	}
 
 	@Override
 	public void delete(Integer id) {
 		Speedway speedway = findById(id);
 		repository.delete(speedway);
+		invalidateReports(speedway);
+	}
+
+	private void invalidateReports(Speedway speedway) {
+		if (speedway.getCountry() != null) {
+			reportCache.invalidateCountry(speedway.getCountry().getId());
+		}
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public List<Speedway> findByNameStartsWithIgnoreCase(String name) {
 		List<Speedway> lista = repository.findByNameStartsWithIgnoreCase(name);
 		if(lista.isEmpty()) {
@@ -68,6 +111,7 @@ public class SpeedwayServiceImpl implements SpeedwayService {
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public List<Speedway> findBySizeBetween(Integer sizeIn, Integer sizeFin) {
 		List<Speedway> lista = repository.findBySizeBetween(sizeIn, sizeFin);
 		if(lista.isEmpty()) {
@@ -77,6 +121,7 @@ public class SpeedwayServiceImpl implements SpeedwayService {
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public List<Speedway> findByCountryOrderBySizeDesc(Country country) {
 		List<Speedway> lista = repository.findByCountryOrderBySizeDesc(country);
 		if(lista.isEmpty()) {
@@ -0,0 +1,122 @@
+package br.com.trier.springvespertino.services.impl;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import br.com.trier.springvespertino.models.Championship;
+import br.com.trier.springvespertino.models.dto.ChampionshipStandingsDTO;
+import br.com.trier.springvespertino.models.dto.PilotPlacementDTO;
+import br.com.trier.springvespertino.models.dto.PilotStandingDTO;
+import br.com.trier.springvespertino.models.dto.TeamStandingDTO;
+import br.com.trier.springvespertino.repositories.PilotRaceRepository;
+import br.com.trier.springvespertino.services.StandingsService;
+
+@Service
+public class StandingsServiceImpl implements StandingsService {
+
+	private static final long CACHE_SIZE = 500;
+
+	private static final Duration CACHE_TTL = Duration.ofMinutes(10);
+
+	@Autowired
+	private PilotRaceRepository repository;
+
+	@Value("${standings.points:25,18,15,12,10,8,6,4,2,1}")
+	private int[] points;
+
+	private final Cache<Integer, ChampionshipStandingsDTO> standings = Caffeine.newBuilder()
+			.maximumSize(CACHE_SIZE)
+			.expireAfterWrite(CACHE_TTL)
+			.build();
+
+	private int pointsFor(Integer placement) {
+		return placement != null && placement > 0 && placement <= points.length ? points[placement - 1] : 0;
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public ChampionshipStandingsDTO findByChampionship(Championship championship) {
+		return standings.get(championship.getId(), id -> compute(championship));
+	}
+
+	@Override
+	public void evict(Championship championship) {
+		if (championship != null) {
+			evict(championship.getId());
+		}
+	}
+
+	@Override
+	public void evict(Integer championshipId) {
+		if (championshipId != null) {
+			invalidate(List.of(championshipId));
+		}
+	}
+
+	// nome e equipe do piloto aparecem em todos os campeonatos em que ele tem resultado
+	@Override
+	@Transactional(readOnly = true)
+	public void evictByPilot(Integer pilotId) {
+		invalidate(repository.findChampionshipIdsByPilot(pilotId));
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public void evictByTeam(Integer teamId) {
+		invalidate(repository.findChampionshipIdsByTeam(teamId));
+	}
+
+	// invalida já e de novo depois do commit: uma leitura concorrente antes do commit pode ter recolocado a classificação antiga
+	private void invalidate(List<Integer> championshipIds) {
+		standings.invalidateAll(championshipIds);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					standings.invalidateAll(championshipIds);
+				}
+			});
+		}
+	}
+
+	private ChampionshipStandingsDTO compute(Championship championship) {
+		Map<Integer, PilotStandingDTO> pilots = new LinkedHashMap<>();
+		Map<Integer, TeamStandingDTO> teams = new LinkedHashMap<>();
+		for (PilotPlacementDTO row : repository.countPlacementsByChampionship(championship)) {
+			int total = row.getTotal().intValue();
+			int rowPoints = pointsFor(row.getPlacement()) * total;
+			int rowWins = Integer.valueOf(1).equals(row.getPlacement()) ? total : 0;
+			pilots.computeIfAbsent(row.getPilotId(),
+					id -> new PilotStandingDTO(id, row.getPilotName(), row.getTeamId(), row.getTeamName(), 0, 0))
+					.addResult(rowPoints, rowWins);
+			teams.computeIfAbsent(row.getTeamId(), id -> new TeamStandingDTO(id, row.getTeamName(), 0, 0))
+					.addResult(rowPoints, rowWins);
+		}
+		List<PilotStandingDTO> pilotStandings = pilots.values().stream()
+				.sorted(Comparator.comparingInt(PilotStandingDTO::getPoints).reversed()
+						.thenComparing(Comparator.comparingInt(PilotStandingDTO::getWins).reversed())
+						.thenComparing(PilotStandingDTO::getPilotName, Comparator.nullsLast(Comparator.naturalOrder())))
+				.toList();
+		List<TeamStandingDTO> teamStandings = teams.values().stream()
+				.sorted(Comparator.comparingInt(TeamStandingDTO::getPoints).reversed()
+						.thenComparing(Comparator.comparingInt(TeamStandingDTO::getWins).reversed())
+						.thenComparing(TeamStandingDTO::getTeamName, Comparator.nullsLast(Comparator.naturalOrder())))
+				.toList();
+		return new ChampionshipStandingsDTO(championship.getId(), championship.getDescription(), pilotStandings,
+				teamStandings);
+	}
+
+}
@@ -2,36 +2,49 @@ package br.com.trier.springvespertino.services.impl;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import br.com.trier.springvespertino.models.Team;
 import br.com.trier.springvespertino.repositories.TeamRepository;
+import br.com.trier.springvespertino.services.StandingsService;
 import br.com.trier.springvespertino.services.TeamService;
 import br.com.trier.springvespertino.services.exceptions.IntegrityViolation;
 import br.com.trier.springvespertino.services.exceptions.ObjectNotFound;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 
 @Service
 public class TeamServiceImpl implements TeamService{
 	
 	@Autowired
 	private TeamRepository repository;
+
+	@Autowired
+	private StandingsService standingsService;
+
+	@PersistenceContext
+	private EntityManager entityManager;
 	
-	private void findByName(Team team) {
-		List<Team> lista = repository.findByNameIgnoreCase(team.getName());
-		if(lista.size()>1 && !lista.get(0).getId().equals(team.getId())) {
+	private void checkName(Team team) {
+		boolean exists = team.getId() == null ? repository.existsByNameIgnoreCase(team.getName())
+				: repository.existsByNameIgnoreCaseAndIdNot(team.getName(), team.getId());
+		if(exists) {
 			throw new IntegrityViolation("Nome já existente: %s".formatted(team.getName()));
 		}
 	}
 
 	@Override
 	public Team salvar(Team team) {
-		findByName(team);
+		checkName(team);
 		return repository.save(team);
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public List<Team> listAll() {
 		List<Team> lista = repository.findAll();
 		if(lista.size()==0) {
@@ -41,16 +54,39 @@ public class TeamServiceImpl implements TeamService{
 	}
 
 	@Override
+	@Transactional(readOnly = true)
+	public List<Team> listAll(Integer after, Integer limit) {
+		return repository.findPage(after, limit);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public void streamAll(Consumer<Team> action) {
+		repository.forEachDetached(entityManager, action);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
 	public Team findById(Integer id) {
 		Optional<Team> team = repository.findById(id);
 		return team.orElseThrow(()->new ObjectNotFound("Equipe %s não encontrada".formatted(id)));
 	}
 
+	@Override
+	@Transactional(readOnly = true)
+	public boolean existsById(Integer id) {
+		return repository.existsById(id);
+	}
+
 	@Override
 	public Team update(Team team) {
-		findById(team.getId());
-		findByName(team);
-		return repository.save(team);
+		if(!existsById(team.getId())) {
+			throw new ObjectNotFound("Equipe %s não encontrada".formatted(team.getId()));
+		}
+		checkName(team);
+		Team saved = repository.save(team);
+		standingsService.evictByTeam(saved.getId());
+		return saved;
 	}
 
 	@Override
@@ -61,6 +97,7 @@ public class TeamServiceImpl implements TeamService{
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public List<Team> findByNameIgnoreCase(String name) {
 		List<Team> lista = repository.findByNameIgnoreCase(name);
 		if(lista.size()==0) {
@@ -70,6 +107,7 @@ public class TeamServiceImpl implements TeamService{
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public List<Team> findByNameContains(String name) {
 		List<Team> lista = repository.findByNameContains(name);
 		if(lista.size()==0) {
@@ -0,0 +1,141 @@
+package br.com.trier.springvespertino.services.impl;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.query.NativeQuery;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.com.trier.springvespertino.models.Championship;
+import br.com.trier.springvespertino.models.PilotRace;
+import br.com.trier.springvespertino.models.TeamStanding;
+import br.com.trier.springvespertino.models.dto.TeamStandingDTO;
+import br.com.trier.springvespertino.repositories.TeamStandingRepository;
+import br.com.trier.springvespertino.repositories.TeamStandingRepository.ChampionshipPlacement;
+import br.com.trier.springvespertino.services.TeamStandingsService;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+@Service
+public class TeamStandingsServiceImpl implements TeamStandingsService {
+
+	private static final int POINTS = 0, WINS = 1, RESULTS = 2;
+
+	@Autowired
+	private TeamStandingRepository repository;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Value("${standings.points:25,18,15,12,10,8,6,4,2,1}")
+	private int[] points;
+
+	private String rebuildSql;
+
+	// um único insert ... select agrupado; a tabela de pontos vira um case montado na inicialização
+	@PostConstruct
+	void buildRebuildSql() {
+		StringBuilder points = new StringBuilder("case pr.colocacao");
+		for (int i = 0; i < this.points.length; i++) {
+			points.append(" when ").append(i + 1).append(" then ").append(this.points[i]);
+		}
+		points.append(" else 0 end");
+		rebuildSql = """
+				insert into equipe_campeonato (championship_codigo_campeonato, team_id_quipe, pontos, vitorias, resultados)
+				select r.championship_codigo_campeonato, p.team_id_quipe, sum(%s),
+					sum(case when pr.colocacao = 1 then 1 else 0 end), count(*)
+				from piloto_corrida pr
+				join piloto p on p.id_piloto = pr.pilot_id_piloto
+				join corrida r on r.id_corrida = pr.race_id_corrida
+				group by r.championship_codigo_campeonato, p.team_id_quipe
+				""".formatted(points);
+	}
+
+	private int pointsFor(Integer placement) {
+		return placement != null && placement > 0 && placement <= points.length ? points[placement - 1] : 0;
+	}
+
+	private void accumulate(Map<TeamStanding.Key, int[]> deltas, Integer championshipId, Integer teamId, Integer placement, int sign) {
+		int[] delta = deltas.computeIfAbsent(new TeamStanding.Key(championshipId, teamId), k -> new int[3]);
+		delta[POINTS] += sign * pointsFor(placement);
+		delta[WINS] += Integer.valueOf(1).equals(placement) ? sign : 0;
+		delta[RESULTS] += sign;
+	}
+
+	private void accumulate(Map<TeamStanding.Key, int[]> deltas, PilotRace pilotRace, int sign) {
+		accumulate(deltas, pilotRace.getRace().getChampionship().getId(), pilotRace.getPilot().getTeam().getId(),
+				pilotRace.getPlacement(), sign);
+	}
+
+	private void apply(Map<TeamStanding.Key, int[]> deltas) {
+		if (deltas.isEmpty()) {
+			return;
+		}
+		// sem o lock, duas transações podem não achar a linha e tentar o mesmo insert
+		repository.lockTeams(deltas.keySet().stream().map(TeamStanding.Key::getTeamId).distinct().toList());
+		deltas.forEach((key, delta) -> {
+			if (repository.addDelta(key.getChampionshipId(), key.getTeamId(), delta[POINTS], delta[WINS], delta[RESULTS]) == 0
+					&& delta[RESULTS] > 0) {
+				entityManager.persist(new TeamStanding(key.getChampionshipId(), key.getTeamId(), delta[POINTS], delta[WINS], delta[RESULTS]));
+			}
+		});
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public List<TeamStandingDTO> findByChampionship(Championship championship) {
+		return repository.findStandings(championship.getId());
+	}
+
+	@Override
+	@Transactional
+	public void add(Collection<PilotRace> pilotRaces) {
+		Map<TeamStanding.Key, int[]> deltas = new LinkedHashMap<>();
+		pilotRaces.forEach(pilotRace -> accumulate(deltas, pilotRace, 1));
+		apply(deltas);
+	}
+
+	@Override
+	@Transactional
+	public void remove(PilotRace pilotRace) {
+		Map<TeamStanding.Key, int[]> deltas = new LinkedHashMap<>();
+		accumulate(deltas, pilotRace, -1);
+		apply(deltas);
+	}
+
+	// os resultados do piloto saem da equipe antiga e entram na nova, campeonato a campeonato
+	@Override
+	@Transactional
+	public void moveResults(Integer pilotId, Integer fromTeamId, Integer toTeamId) {
+		Map<TeamStanding.Key, int[]> deltas = new LinkedHashMap<>();
+		for (ChampionshipPlacement result : repository.findPlacementsByPilot(pilotId)) {
+			if (fromTeamId != null) {
+				accumulate(deltas, result.getChampionshipId(), fromTeamId, result.getPlacement(), -1);
+			}
+			if (toTeamId != null) {
+				accumulate(deltas, result.getChampionshipId(), toTeamId, result.getPlacement(), 1);
+			}
+		}
+		apply(deltas);
+	}
+
+	@Override
+	@Transactional
+	public int rebuild() {
+		// o auto-flush do SQL nativo só cobre a entidade sincronizada: as escritas pendentes em resultados, corridas e pilotos precisam ir antes
+		entityManager.flush();
+		repository.deleteAllStandings();
+		// sem a entidade sincronizada, o Hibernate invalida todas as regiões do cache L2 depois de um update nativo
+		return entityManager.createNativeQuery(rebuildSql)
+				.unwrap(NativeQuery.class)
+				.addSynchronizedEntityClass(TeamStanding.class)
+				.executeUpdate();
+	}
+
+}
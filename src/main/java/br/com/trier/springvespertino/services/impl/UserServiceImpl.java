@@ -2,31 +2,57 @@ package br.com.trier.springvespertino.services.impl;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.function.Consumer;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import br.com.trier.springvespertino.config.jwt.JwtUserDetailService;
 import br.com.trier.springvespertino.models.User;
 import br.com.trier.springvespertino.repositories.UserRepository;
 import br.com.trier.springvespertino.services.UserService;
 import br.com.trier.springvespertino.services.exceptions.IntegrityViolation;
 import br.com.trier.springvespertino.services.exceptions.ObjectNotFound;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 
 @Service
 public class UserServiceImpl implements UserService{
+
+	private static final Pattern BCRYPT_PATTERN = Pattern.compile("\\A\\$2(a|y|b)?\\$\\d\\d\\$[./0-9A-Za-z]{53}");
 	
 	@Autowired
 	private UserRepository repository;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+	
+	@Autowired
+	private PasswordEncoder encoder;
+	
+	@Autowired
+	private JwtUserDetailService userDetailService;
 	
-	private void findByEmail(User user) {
-		User busca = repository.findByEmail(user.getEmail()).orElse(null);
-		if(busca != null && !busca.getId().equals(user.getId())) {
+	private void checkEmail(User user) {
+		boolean exists = user.getId() == null ? repository.existsByEmail(user.getEmail())
+				: repository.existsByEmailAndIdNot(user.getEmail(), user.getId());
+		if(exists) {
 			throw new IntegrityViolation("Email já existente: %s"
 					.formatted(user.getEmail()));
 		}
 	}
+	
+	private void encodePassword(User user) {
+		if(user.getPassword() != null) {
+			user.setPassword(encoder.encode(user.getPassword()));
+		}
+	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public User findById(Integer id) {
 		Optional<User> user = repository.findById(id);
 		return user.orElseThrow(()-> 
@@ -35,11 +61,13 @@ public class UserServiceImpl implements UserService{
 
 	@Override
 	public User insert(User user) {
-		findByEmail(user);
+		checkEmail(user);
+		encodePassword(user);
 		return repository.save(user);
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public List<User> listAll() {
 		List<User> lista = repository.findAll();
 		if(lista.isEmpty()) {
@@ -48,20 +76,44 @@ public class UserServiceImpl implements UserService{
 		return lista;
 	}
 
+	@Override
+	@Transactional(readOnly = true)
+	public List<User> listAll(Integer after, Integer limit) {
+		return repository.findPage(after, limit);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public void streamAll(Consumer<User> action) {
+		repository.forEachDetached(entityManager, action);
+	}
+
 	@Override
 	public User update(User user) {
-		findById(user.getId());
-		findByEmail(user);
-		return repository.save(user);
+		User stored = findById(user.getId());
+		String oldEmail = stored.getEmail();
+		checkEmail(user);
+		// o UserDTO devolve o hash: sem senha nova (vazia ou o próprio hash) mantém a gravada
+		if (user.getPassword() == null || user.getPassword().isBlank() || BCRYPT_PATTERN.matcher(user.getPassword()).matches()) {
+			user.setPassword(stored.getPassword());
+		} else {
+			encodePassword(user);
+		}
+		User updated = repository.save(user);
+		userDetailService.evict(oldEmail);
+		userDetailService.evict(user.getEmail());
+		return updated;
 	}
 
 	@Override
 	public void delete(Integer id) {
 		User user = findById(id);
 		repository.delete(user);
+		userDetailService.evict(user.getEmail());
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public List<User> findByName(String name) {
 		List<User> lista = repository.findByNameStartingWithIgnoreCase(name);
 		if(lista.isEmpty()) {
@@ -70,4 +122,18 @@ public class UserServiceImpl implements UserService{
 		return lista;
 	}
 
+	// migração única das senhas gravadas em texto puro antes do BCrypt; o login só lê
+	@Override
+	@Transactional
+	public int hashPlainTextPasswords() {
+		List<User> users = repository.findWithPlainTextPassword().stream()
+				.filter(user -> !BCRYPT_PATTERN.matcher(user.getPassword()).matches())
+				.toList();
+		users.forEach(user -> {
+			encodePassword(user);
+			userDetailService.evict(user.getEmail());
+		});
+		return users.size();
+	}
+
 }
@@ -1,6 +1,9 @@
 package br.com.trier.springvespertino.utils;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
@@ -9,13 +12,109 @@ public class DateUtils {
 
 	private static DateTimeFormatter dtfBR = DateTimeFormatter.ofPattern("dd/MM/yyyy");
 
+	private static final ZoneId ZONE = ZoneId.systemDefault();
+
+	private static final int LENGTH = 10;
+
 	public static ZonedDateTime strToZonedDateTime(String dateStr) {
-		return dateStr != null ? LocalDate.parse(dateStr, dtfBR).atStartOfDay(ZoneId.systemDefault())
-				: ZonedDateTime.now();
+		if (dateStr == null) {
+			return ZonedDateTime.now();
+		}
+		LocalDate date = parse(dateStr);
+		return (date != null ? date : LocalDate.parse(dateStr, dtfBR)).atStartOfDay(ZONE);
 	}
 
 	public static String zonedDateTimeToStr(ZonedDateTime date) {
-		return date != null ? dtfBR.format(date) : "";
+		if (date == null) {
+			return "";
+		}
+		if (!isFastPath(date)) {
+			return dtfBR.format(date);
+		}
+		byte[] buf = new byte[LENGTH];
+		write(buf, 0, date);
+		return new String(buf, StandardCharsets.ISO_8859_1);
+	}
+
+	public static StringBuilder appendDate(StringBuilder sb, ZonedDateTime date) {
+		if (date == null) {
+			return sb;
+		}
+		if (!isFastPath(date)) {
+			dtfBR.formatTo(date, sb);
+			return sb;
+		}
+		int year = date.getYear();
+		append2(sb, date.getDayOfMonth()).append('/');
+		append2(sb, date.getMonthValue()).append('/');
+		return append2(append2(sb, year / 100), year % 100);
+	}
+
+	// grava dd/MM/yyyy em ASCII e devolve a próxima posição do buffer
+	public static int writeDate(byte[] buf, int offset, ZonedDateTime date) {
+		if (date == null) {
+			return offset;
+		}
+		if (!isFastPath(date)) {
+			byte[] str = dtfBR.format(date).getBytes(StandardCharsets.ISO_8859_1);
+			System.arraycopy(str, 0, buf, offset, str.length);
+			return offset + str.length;
+		}
+		write(buf, offset, date);
+		return offset + LENGTH;
+	}
+
+	private static boolean isFastPath(ZonedDateTime date) {
+		int year = date.getYear();
+		return year >= 1 && year <= 9999;
+	}
+
+	private static void write(byte[] buf, int offset, ZonedDateTime date) {
+		int year = date.getYear();
+		write2(buf, offset, date.getDayOfMonth());
+		buf[offset + 2] = '/';
+		write2(buf, offset + 3, date.getMonthValue());
+		buf[offset + 5] = '/';
+		write2(buf, offset + 6, year / 100);
+		write2(buf, offset + 8, year % 100);
+	}
+
+	private static void write2(byte[] buf, int offset, int value) {
+		buf[offset] = (byte) ('0' + value / 10);
+		buf[offset + 1] = (byte) ('0' + value % 10);
+	}
+
+	private static StringBuilder append2(StringBuilder sb, int value) {
+		return sb.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
+	}
+
+	// devolve null quando a data não está no formato exato, para o formatter tratar (ou rejeitar)
+	private static LocalDate parse(String str) {
+		if (str.length() != LENGTH || str.charAt(2) != '/' || str.charAt(5) != '/') {
+			return null;
+		}
+		int day = digits(str, 0, 2);
+		int month = digits(str, 3, 5);
+		int year = digits(str, 6, 10);
+		if (day < 1 || month < 1 || month > 12 || year < 1) {
+			return null;
+		}
+		if (day > Month.of(month).length(Year.isLeap(year))) {
+			return null;
+		}
+		return LocalDate.of(year, month, day);
+	}
+
+	private static int digits(String str, int start, int end) {
+		int value = 0;
+		for (int i = start; i < end; i++) {
+			int digit = str.charAt(i) - '0';
+			if (digit < 0 || digit > 9) {
+				return -1;
+			}
+			value = value * 10 + digit;
+		}
+		return value;
 	}
 
 }
@@ -0,0 +1,36 @@
+package br.com.trier.springvespertino.utils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class NdjsonWriter<T> implements Consumer<T>, Closeable {
+
+	private final JsonGenerator generator;
+
+	public NdjsonWriter(ObjectMapper mapper, OutputStream out) throws IOException {
+		generator = mapper.createGenerator(out);
+		generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+	}
+
+	@Override
+	public void accept(T value) {
+		try {
+			generator.writeObject(value);
+			generator.writeRaw('\n');
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		generator.close();
+	}
+
+}
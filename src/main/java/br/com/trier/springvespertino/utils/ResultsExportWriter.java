@@ -0,0 +1,161 @@
+package br.com.trier.springvespertino.utils;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+/**
+ * Exportação colunar dos resultados (piloto_corrida + corrida, piloto, pista e campeonato).
+ * <p>
+ * Layout (inteiros big-endian, como {@link DataOutputStream}):
+ * <pre>
+ * cabeçalho: int32 MAGIC ("VSPR"), int8 VERSION
+ * bloco:     int32 linhas (0 encerra o arquivo; sem ele a exportação foi interrompida)
+ *            int32 novas entradas do dicionário, cada uma int32 tamanho + bytes UTF-8;
+ *                  os ids continuam a sequência dos blocos anteriores (0, 1, 2...)
+ *            colunas, cada uma com "linhas" valores, nesta ordem:
+ *                  id int32, colocacao int32, corrida_id int32, corrida_data int64 (epoch ms),
+ *                  piloto_id int32, piloto_nome dict, pista_id int32, pista_nome dict,
+ *                  campeonato_id int32, campeonato_nome dict, campeonato_ano int32
+ * </pre>
+ * Colunas dict trazem o id da string no dicionário. Nulos: {@link #NULL_INT}, {@link #NULL_LONG}
+ * e -1 nas colunas dict.
+ * <p>
+ * O terminador só é gravado por {@link #finish()}; {@link #close()} apenas descarrega o que já foi escrito,
+ * então uma falha no meio deixa o arquivo sem o bloco final.
+ */
+public class ResultsExportWriter implements RowCallbackHandler, Closeable {
+
+	public static final String MEDIA_TYPE = "application/vnd.vespertino.results";
+
+	public static final int MAGIC = 0x56535052;
+
+	public static final byte VERSION = 1;
+
+	public static final int DEFAULT_BLOCK_SIZE = 4096;
+
+	public static final int NULL_INT = Integer.MIN_VALUE;
+
+	public static final long NULL_LONG = Long.MIN_VALUE;
+
+	public static final String[] COLUMNS = { "id", "colocacao", "corrida_id", "corrida_data", "piloto_id",
+			"piloto_nome", "pista_id", "pista_nome", "campeonato_id", "campeonato_nome", "campeonato_ano" };
+
+	private static final int DATE = 3;
+
+	private static final boolean[] DICTIONARY = { false, false, false, false, false, true, false, true, false, true, false };
+
+	private final DataOutputStream out;
+
+	private final int blockSize;
+
+	private final int[][] ints;
+
+	private final long[] dates;
+
+	private final Map<String, Integer> dictionary = new HashMap<>();
+
+	private final List<String> newEntries = new ArrayList<>();
+
+	private int[] columnIndexes;
+
+	private int rows;
+
+	public ResultsExportWriter(OutputStream out) throws IOException {
+		this(out, DEFAULT_BLOCK_SIZE);
+	}
+
+	public ResultsExportWriter(OutputStream out, int blockSize) throws IOException {
+		this.out = new DataOutputStream(new BufferedOutputStream(out, 64 * 1024));
+		this.blockSize = blockSize;
+		this.ints = new int[COLUMNS.length][blockSize];
+		this.dates = new long[blockSize];
+		this.out.writeInt(MAGIC);
+		this.out.writeByte(VERSION);
+	}
+
+	@Override
+	public void processRow(ResultSet rs) throws SQLException {
+		if (columnIndexes == null) {
+			columnIndexes = new int[COLUMNS.length];
+			for (int i = 0; i < COLUMNS.length; i++) {
+				columnIndexes[i] = rs.findColumn(COLUMNS[i]);
+			}
+		}
+		for (int i = 0; i < COLUMNS.length; i++) {
+			if (i == DATE) {
+				Timestamp date = rs.getTimestamp(columnIndexes[i]);
+				dates[rows] = date == null ? NULL_LONG : date.getTime();
+			} else if (DICTIONARY[i]) {
+				ints[i][rows] = encode(rs.getString(columnIndexes[i]));
+			} else {
+				int value = rs.getInt(columnIndexes[i]);
+				ints[i][rows] = rs.wasNull() ? NULL_INT : value;
+			}
+		}
+		if (++rows == blockSize) {
+			flushBlock();
+		}
+	}
+
+	private int encode(String value) {
+		if (value == null) {
+			return -1;
+		}
+		return dictionary.computeIfAbsent(value, v -> {
+			newEntries.add(v);
+			return dictionary.size();
+		});
+	}
+
+	private void flushBlock() {
+		try {
+			out.writeInt(rows);
+			out.writeInt(newEntries.size());
+			for (String entry : newEntries) {
+				byte[] bytes = entry.getBytes(StandardCharsets.UTF_8);
+				out.writeInt(bytes.length);
+				out.write(bytes);
+			}
+			newEntries.clear();
+			for (int i = 0; i < COLUMNS.length; i++) {
+				for (int row = 0; row < rows; row++) {
+					if (i == DATE) {
+						out.writeLong(dates[row]);
+					} else {
+						out.writeInt(ints[i][row]);
+					}
+				}
+			}
+			rows = 0;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	public void finish() throws IOException {
+		if (rows > 0) {
+			flushBlock();
+		}
+		out.writeInt(0);
+	}
+
+	@Override
+	public void close() throws IOException {
+		out.flush();
+	}
+
+}
@@ -0,0 +1,38 @@
+-- índices funcionais para as buscas IgnoreCase (o Spring Data gera upper(coluna) like upper(?))
+create index if not exists idx_piloto_nome_upper on piloto (upper(nome_piloto) text_pattern_ops);
+create index if not exists idx_pista_nome_upper on pista (upper(nome_pista) text_pattern_ops);
+create index if not exists idx_usuario_nome_upper on usuario (upper(nome_usuario) text_pattern_ops);
+create index if not exists idx_pais_nome_upper on pais (upper(name));
+create index if not exists idx_equipe_nome_upper on equipe (upper(nome_equipe));
+
+-- (corrida, colocacao) virou constraint única em piloto_corrida; o índice antigo ficou redundante
+drop index if exists idx_piloto_corrida_corrida_colocacao;
+
+-- sequências dos ids (allocationSize = 50): numa base que já tinha dados, a sequência é avançada até o maior id,
+-- então o próximo bloco do Hibernate começa em max(id) + 1; se ela já estiver à frente, nada muda
+create sequence if not exists campeonato_seq start with 1 increment by 50;
+select setval('campeonato_seq', (select max(codigo_campeonato) from campeonato)) where (select max(codigo_campeonato) from campeonato) >= (select last_value from campeonato_seq);
+create sequence if not exists pais_seq start with 1 increment by 50;
+select setval('pais_seq', (select max(id) from pais)) where (select max(id) from pais) >= (select last_value from pais_seq);
+create sequence if not exists equipe_seq start with 1 increment by 50;
+select setval('equipe_seq', (select max(id_quipe) from equipe)) where (select max(id_quipe) from equipe) >= (select last_value from equipe_seq);
+create sequence if not exists piloto_seq start with 1 increment by 50;
+select setval('piloto_seq', (select max(id_piloto) from piloto)) where (select max(id_piloto) from piloto) >= (select last_value from piloto_seq);
+create sequence if not exists pista_seq start with 1 increment by 50;
+select setval('pista_seq', (select max(id_pista) from pista)) where (select max(id_pista) from pista) >= (select last_value from pista_seq);
+create sequence if not exists corrida_seq start with 1 increment by 50;
+select setval('corrida_seq', (select max(id_corrida) from corrida)) where (select max(id_corrida) from corrida) >= (select last_value from corrida_seq);
+create sequence if not exists piloto_corrida_seq start with 1 increment by 50;
+select setval('piloto_corrida_seq', (select max(id) from piloto_corrida)) where (select max(id) from piloto_corrida) >= (select last_value from piloto_corrida_seq);
+create sequence if not exists usuario_seq start with 1 increment by 50;
+select setval('usuario_seq', (select max(id_usuario) from usuario)) where (select max(id_usuario) from usuario) >= (select last_value from usuario_seq);
+
+-- backfill de piloto_estatistica enquanto a tabela está vazia (primeira subida com ela); depois o serviço mantém por deltas
+insert into piloto_estatistica (pilot_id_piloto, corridas, vitorias, podios, soma_colocacoes)
+select pilot_id_piloto, count(*),
+	sum(case when colocacao = 1 then 1 else 0 end),
+	sum(case when colocacao <= 3 then 1 else 0 end),
+	sum(colocacao)
+from piloto_corrida
+where not exists (select 1 from piloto_estatistica)
+group by pilot_id_piloto;
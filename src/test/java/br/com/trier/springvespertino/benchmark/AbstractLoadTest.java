@@ -0,0 +1,147 @@
+package br.com.trier.springvespertino.benchmark;
+
+import br.com.trier.springvespertino.config.jwt.JwtUtil;
+import br.com.trier.springvespertino.models.*;
+import br.com.trier.springvespertino.repositories.*;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("benchmark")
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+// com 200 clientes disputando 10 conexões, a espera pelo pool entra na latência medida em vez de virar erro
+@TestPropertySource(properties = "spring.datasource.hikari.connection-timeout=30000")
+public abstract class AbstractLoadTest {
+
+    private static final String EMAIL = "carga@teste.com.br";
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${load.clients:200}")
+    private int clients;
+
+    @Value("${load.requests:5000}")
+    private int requests;
+
+    @Value("${load.path:/racers?limit=50}")
+    private String path;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private PasswordEncoder encoder;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private SpeedwayRepository speedwayRepository;
+
+    @Autowired
+    private ChampionshipRepository championshipRepository;
+
+    @Autowired
+    private RaceRepository raceRepository;
+
+    protected abstract String mode();
+
+    private void seed() {
+        userRepository.save(new User(null, "Carga", EMAIL, encoder.encode("senha"), "ADMIN,USER"));
+        Country country = countryRepository.save(new Country(null, "Brasil"));
+        Speedway speedway = speedwayRepository.save(new Speedway(null, "Interlagos", 4309, country));
+        Championship championship = championshipRepository.save(new Championship(null, "F1", 2023));
+        List<Race> races = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            races.add(new Race(null, ZonedDateTime.of(2023, 1, 1, 15, 0, 0, 0, ZoneId.systemDefault()).plusDays(i), speedway, championship));
+        }
+        raceRepository.saveAll(races);
+    }
+
+    private final AtomicInteger errors = new AtomicInteger();
+
+    private long[] run(HttpClient client, HttpRequest request, int total) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        try {
+            List<Future<long[]>> futures = new ArrayList<>();
+            for (int c = 0; c < clients; c++) {
+                int count = total / clients + (c < total % clients ? 1 : 0);
+                futures.add(executor.submit(() -> {
+                    long[] latencies = new long[count];
+                    for (int i = 0; i < count; i++) {
+                        long start = System.nanoTime();
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        latencies[i] = System.nanoTime() - start;
+                        if (response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                    return latencies;
+                }));
+            }
+            long[] all = new long[total];
+            int pos = 0;
+            for (Future<long[]> future : futures) {
+                long[] latencies = future.get();
+                System.arraycopy(latencies, 0, all, pos, latencies.length);
+                pos += latencies.length;
+            }
+            return all;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static double millis(long[] sorted, double percentile) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1)] / 1e6;
+    }
+
+    @Test
+    void load() throws Exception {
+        seed();
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Authorization", "Bearer " + jwtUtil.generateToken(EMAIL))
+                .GET()
+                .build();
+
+        run(client, request, Math.max(requests / 10, clients));
+        errors.set(0);
+        long start = System.nanoTime();
+        long[] latencies = run(client, request, requests);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        Arrays.sort(latencies);
+        System.out.printf("%s threads: %d clients, %d requests to %s -> %.0f req/s, p50 %.1f ms, p99 %.1f ms, p99.9 %.1f ms, max %.1f ms, %d errors%n",
+                mode(), clients, requests, path, requests / seconds,
+                millis(latencies, 0.50), millis(latencies, 0.99), millis(latencies, 0.999), latencies[latencies.length - 1] / 1e6, errors.get());
+        assertEquals(0, errors.get());
+    }
+
+}
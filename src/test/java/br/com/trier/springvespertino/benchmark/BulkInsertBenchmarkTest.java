@@ -0,0 +1,114 @@
+package br.com.trier.springvespertino.benchmark;
+
+import br.com.trier.springvespertino.models.*;
+import br.com.trier.springvespertino.repositories.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("benchmark")
+@ActiveProfiles("test")
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_ON_EXIT=FALSE")
+public class BulkInsertBenchmarkTest {
+
+    private static final int RACES = 500;
+    private static final int GRID = 20;
+    private static final int ROUNDS = 5;
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private PilotRepository pilotRepository;
+
+    @Autowired
+    private SpeedwayRepository speedwayRepository;
+
+    @Autowired
+    private ChampionshipRepository championshipRepository;
+
+    @Autowired
+    private RaceRepository raceRepository;
+
+    @Autowired
+    private PilotRaceRepository pilotRaceRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private List<Pilot> pilots;
+    private Speedway speedway;
+    private Championship championship;
+
+    @BeforeEach
+    public void setUp() {
+        Country country = countryRepository.save(new Country(null, "Brasil"));
+        Team team = teamRepository.save(new Team(null, "Equipe"));
+        pilots = new ArrayList<>();
+        for (int i = 0; i < GRID; i++) {
+            pilots.add(pilotRepository.save(new Pilot(null, "Piloto " + i, country, team)));
+        }
+        speedway = speedwayRepository.save(new Speedway(null, "Interlagos", 4309, country));
+        championship = championshipRepository.save(new Championship(null, "F1", 2023));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        pilotRaceRepository.deleteAllInBatch();
+        raceRepository.deleteAllInBatch();
+        championshipRepository.deleteAllInBatch();
+        speedwayRepository.deleteAllInBatch();
+        pilotRepository.deleteAllInBatch();
+        teamRepository.deleteAllInBatch();
+        countryRepository.deleteAllInBatch();
+    }
+
+    private long insertSeason() {
+        long start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Race> races = new ArrayList<>();
+            for (int i = 0; i < RACES; i++) {
+                races.add(new Race(null, ZonedDateTime.of(2023, 1, 1, 15, 0, 0, 0, ZoneId.systemDefault()).plusDays(i % 365), speedway, championship));
+            }
+            raceRepository.saveAll(races);
+            List<PilotRace> results = new ArrayList<>();
+            for (Race race : races) {
+                for (int p = 0; p < GRID; p++) {
+                    results.add(new PilotRace(null, p + 1, pilots.get(p), race));
+                }
+            }
+            pilotRaceRepository.saveAll(results);
+        });
+        return System.nanoTime() - start;
+    }
+
+    @Test
+    @DisplayName("Benchmark inserção em lote de corridas e resultados")
+    void bulkInsertBenchmark() {
+        insertSeason();
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            best = Math.min(best, insertSeason());
+        }
+        long rows = (long) RACES * (GRID + 1);
+        System.out.printf("bulk insert: %d rows, best %.1f ms, %.0f rows/s%n", rows, best / 1e6, rows / (best / 1e9));
+        assertEquals((long) RACES * GRID * (ROUNDS + 1), pilotRaceRepository.count());
+    }
+
+}
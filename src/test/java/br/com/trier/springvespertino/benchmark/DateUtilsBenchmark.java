@@ -0,0 +1,75 @@
+package br.com.trier.springvespertino.benchmark;
+
+import br.com.trier.springvespertino.utils.DateUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateUtilsBenchmark {
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    private ZonedDateTime date;
+    private String dateStr;
+    private StringBuilder sb;
+    private byte[] buf;
+
+    @Setup
+    public void setUp() {
+        date = ZonedDateTime.of(2023, 7, 23, 15, 0, 0, 0, ZoneId.systemDefault());
+        dateStr = "23/07/2023";
+        sb = new StringBuilder(64);
+        buf = new byte[64];
+    }
+
+    @Benchmark
+    public String formatFormatter() {
+        return FORMATTER.format(date);
+    }
+
+    @Benchmark
+    public String format() {
+        return DateUtils.zonedDateTimeToStr(date);
+    }
+
+    @Benchmark
+    public StringBuilder formatAppend() {
+        sb.setLength(0);
+        return DateUtils.appendDate(sb, date);
+    }
+
+    @Benchmark
+    public int formatWrite() {
+        return DateUtils.writeDate(buf, 0, date);
+    }
+
+    @Benchmark
+    public ZonedDateTime parseFormatter() {
+        return LocalDate.parse(dateStr, FORMATTER).atStartOfDay(ZoneId.systemDefault());
+    }
+
+    @Benchmark
+    public ZonedDateTime parse() {
+        return DateUtils.strToZonedDateTime(dateStr);
+    }
+
+}
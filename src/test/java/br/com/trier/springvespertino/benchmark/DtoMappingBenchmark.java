@@ -0,0 +1,156 @@
+package br.com.trier.springvespertino.benchmark;
+
+import br.com.trier.springvespertino.models.Championship;
+import br.com.trier.springvespertino.models.Country;
+import br.com.trier.springvespertino.models.Pilot;
+import br.com.trier.springvespertino.models.PilotRace;
+import br.com.trier.springvespertino.models.Race;
+import br.com.trier.springvespertino.models.Speedway;
+import br.com.trier.springvespertino.models.Team;
+import br.com.trier.springvespertino.models.User;
+import br.com.trier.springvespertino.models.dto.PilotRaceDTO;
+import br.com.trier.springvespertino.models.dto.RaceDTO;
+import br.com.trier.springvespertino.models.dto.UserDTO;
+import br.com.trier.springvespertino.utils.DateUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class DtoMappingBenchmark {
+
+    @Param({ "10000", "100000" })
+    private int size;
+
+    private Championship championship;
+    private Speedway speedway;
+    private Pilot pilot;
+    private Race race;
+
+    private List<Race> races;
+    private List<PilotRace> pilotRaces;
+    private List<User> users;
+    private List<RaceDTO> raceDtos;
+    private List<PilotRaceDTO> pilotRaceDtos;
+    private List<UserDTO> userDtos;
+    private List<ZonedDateTime> dates;
+    private List<String> dateStrs;
+
+    @Setup
+    public void setUp() {
+        Country country = new Country(1, "Brasil");
+        Team team = new Team(1, "Equipe");
+        championship = new Championship(1, "F1", 2023);
+        speedway = new Speedway(1, "Interlagos", 4309, country);
+        pilot = new Pilot(1, "Piloto", country, team);
+        ZonedDateTime start = ZonedDateTime.of(2023, 1, 1, 15, 0, 0, 0, ZoneId.systemDefault());
+        race = new Race(1, start, speedway, championship);
+
+        races = new ArrayList<>(size);
+        pilotRaces = new ArrayList<>(size);
+        users = new ArrayList<>(size);
+        dates = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ZonedDateTime date = start.plusDays(i % 365);
+            Race r = new Race(i, date, speedway, championship);
+            races.add(r);
+            pilotRaces.add(new PilotRace(i, i % 20 + 1, pilot, r));
+            users.add(new User(i, "Usuario " + i, "usuario" + i + "@teste.com.br", "senha", "ADMIN,USER"));
+            dates.add(date);
+        }
+        raceDtos = races.stream().map(Race::toDTO).toList();
+        pilotRaceDtos = pilotRaces.stream().map(PilotRace::toDTO).toList();
+        userDtos = users.stream().map(User::toDTO).toList();
+        dateStrs = raceDtos.stream().map(RaceDTO::getDate).toList();
+    }
+
+    @Benchmark
+    public List<RaceDTO> raceToDto() {
+        return races.stream().map(Race::toDTO).toList();
+    }
+
+    @Benchmark
+    public List<RaceDTO> raceToDtoParallel() {
+        return races.parallelStream().map(Race::toDTO).toList();
+    }
+
+    @Benchmark
+    public List<PilotRaceDTO> pilotRaceToDto() {
+        return pilotRaces.stream().map(PilotRace::toDTO).toList();
+    }
+
+    @Benchmark
+    public List<PilotRaceDTO> pilotRaceToDtoParallel() {
+        return pilotRaces.parallelStream().map(PilotRace::toDTO).toList();
+    }
+
+    @Benchmark
+    public List<UserDTO> userToDto() {
+        return users.stream().map(User::toDTO).toList();
+    }
+
+    @Benchmark
+    public List<UserDTO> userToDtoParallel() {
+        return users.parallelStream().map(User::toDTO).toList();
+    }
+
+    @Benchmark
+    public List<Race> raceFromDto() {
+        return raceDtos.stream().map(dto -> new Race(dto, championship, speedway)).toList();
+    }
+
+    @Benchmark
+    public List<Race> raceFromDtoParallel() {
+        return raceDtos.parallelStream().map(dto -> new Race(dto, championship, speedway)).toList();
+    }
+
+    @Benchmark
+    public List<PilotRace> pilotRaceFromDto() {
+        return pilotRaceDtos.stream().map(dto -> new PilotRace(dto, pilot, race)).toList();
+    }
+
+    @Benchmark
+    public List<User> userFromDto() {
+        return userDtos.stream().map(User::new).toList();
+    }
+
+    @Benchmark
+    public List<String> zonedDateTimeToStr() {
+        return dates.stream().map(DateUtils::zonedDateTimeToStr).toList();
+    }
+
+    @Benchmark
+    public List<String> zonedDateTimeToStrParallel() {
+        return dates.parallelStream().map(DateUtils::zonedDateTimeToStr).toList();
+    }
+
+    @Benchmark
+    public List<ZonedDateTime> strToZonedDateTime() {
+        return dateStrs.stream().map(DateUtils::strToZonedDateTime).toList();
+    }
+
+    @Benchmark
+    public List<ZonedDateTime> strToZonedDateTimeParallel() {
+        return dateStrs.parallelStream().map(DateUtils::strToZonedDateTime).toList();
+    }
+
+}
@@ -0,0 +1,75 @@
+package br.com.trier.springvespertino.benchmark;
+
+import br.com.trier.springvespertino.resources.exceptions.StandardError;
+import br.com.trier.springvespertino.services.exceptions.ObjectNotFound;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de uma resposta 404: lançar a exceção de serviço a partir de uma pilha de
+ * {@code depth} frames (a pilha de uma requisição no Spring passa de 100) e serializar o corpo.
+ * {@code before} reproduz a exceção com stack trace e o StandardError pelo Jackson.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorResponseBenchmark {
+
+    @Param({ "10", "150" })
+    private int depth;
+
+    private ObjectMapper mapper;
+
+    @Setup
+    public void setUp() {
+        mapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+    }
+
+    @Benchmark
+    public byte[] before() throws JsonProcessingException {
+        try {
+            throwAt(depth, true);
+            return null;
+        } catch (RuntimeException e) {
+            return mapper.writeValueAsBytes(new StandardError(LocalDateTime.now(), 404, e.getMessage(), "/pais/10"));
+        }
+    }
+
+    @Benchmark
+    public byte[] after() {
+        try {
+            throwAt(depth, false);
+            return null;
+        } catch (RuntimeException e) {
+            return new StandardError(LocalDateTime.now(), 404, e.getMessage(), "/pais/10").toJson();
+        }
+    }
+
+    private static int throwAt(int depth, boolean stackTrace) {
+        if (depth > 0) {
+            return throwAt(depth - 1, stackTrace) + 1;
+        }
+        throw stackTrace ? new RuntimeException("País não existe") : new ObjectNotFound("País não existe");
+    }
+
+}
@@ -0,0 +1,147 @@
+package br.com.trier.springvespertino.benchmark;
+
+import br.com.trier.springvespertino.config.jwt.JwtAuthFilter;
+import br.com.trier.springvespertino.config.jwt.JwtUserDetailService;
+import br.com.trier.springvespertino.config.jwt.JwtUtil;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.security.Key;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+
+    private static final String EMAIL = "usuario@teste.com.br";
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    // bem maior que o cache de tokens verificados do JwtUtil (10.000), para a maioria das leituras errar o cache
+    private static final int TOKEN_POOL_SIZE = 40_000;
+
+    private JwtUtil jwtUtil;
+    private JwtAuthFilter filter;
+    private UserDetails userDetails;
+    private String token;
+    private String header;
+    private JwtParser parser;
+    private String[] tokens;
+    private String[] headers;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        token = jwtUtil.generateToken(EMAIL);
+        header = "Bearer " + token;
+        userDetails = User.withUsername(EMAIL).password("senha").roles("USER").build();
+
+        JwtUserDetailService service = Mockito.mock(JwtUserDetailService.class);
+        Mockito.when(service.loadUserByUsername(EMAIL)).thenReturn(userDetails);
+        filter = new JwtAuthFilter();
+        ReflectionTestUtils.setField(filter, "jwtUtil", jwtUtil);
+        ReflectionTestUtils.setField(filter, "service", service);
+        filter.bindTo(new SimpleMeterRegistry());
+
+        parser = (JwtParser) ReflectionTestUtils.getField(jwtUtil, "parser");
+        Key key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(JwtUtil.SECRET));
+        Date expiration = new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1));
+        tokens = new String[TOKEN_POOL_SIZE];
+        headers = new String[TOKEN_POOL_SIZE];
+        for (int i = 0; i < TOKEN_POOL_SIZE; i++) {
+            // o id distingue tokens do mesmo usuário gerados no mesmo segundo
+            tokens[i] = Jwts.builder().setId(Integer.toString(i)).setSubject(EMAIL).setExpiration(expiration)
+                    .signWith(key, SignatureAlgorithm.HS256).compact();
+            headers[i] = "Bearer " + tokens[i];
+        }
+    }
+
+    private int nextIndex() {
+        int index = next;
+        next = index + 1 == TOKEN_POOL_SIZE ? 0 : index + 1;
+        return index;
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(EMAIL);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtUtil.extractUsername(token);
+    }
+
+    @Benchmark
+    public Boolean validateToken() {
+        return jwtUtil.validateToken(token, userDetails);
+    }
+
+    // custo de uma verificação sem cache: assinatura HMAC e parse das claims
+    @Benchmark
+    public String extractUsernameUncached() {
+        return parser.parseClaimsJws(token).getBody().getSubject();
+    }
+
+    @Benchmark
+    public String extractUsernameRotating() {
+        return jwtUtil.extractUsername(tokens[nextIndex()]);
+    }
+
+    @Benchmark
+    public Boolean validateTokenRotating() {
+        return jwtUtil.validateToken(tokens[nextIndex()], userDetails);
+    }
+
+    @Benchmark
+    public Object doFilter() throws ServletException, IOException {
+        return filter(header);
+    }
+
+    @Benchmark
+    public Object doFilterRotating() throws ServletException, IOException {
+        return filter(headers[nextIndex()]);
+    }
+
+    private Object filter(String authorization) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/pais");
+        request.addHeader("Authorization", authorization);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), NO_OP_CHAIN);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+}
@@ -0,0 +1,16 @@
+package br.com.trier.springvespertino.benchmark;
+
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:load-virtual;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.show-sql=false",
+        "spring.threads.virtual.enabled=true" })
+public class VirtualThreadsLoadTest extends AbstractLoadTest {
+
+    @Override
+    protected String mode() {
+        return "virtual";
+    }
+
+}
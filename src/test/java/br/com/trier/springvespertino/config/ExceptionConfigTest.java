@@ -0,0 +1,32 @@
+package br.com.trier.springvespertino.config;
+
+import br.com.trier.springvespertino.BaseTest;
+import br.com.trier.springvespertino.services.exceptions.ObjectNotFound;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ExceptionConfigTest extends BaseTest {
+
+    @Autowired
+    ExceptionConfig config;
+
+    @Test
+    @DisplayName("Teste stack trace das exceções de serviço segue app.exceptions.stack-traces")
+    void stackTracesFollowPropertyTest() {
+        assertEquals(0, new ObjectNotFound("sem stack").getStackTrace().length);
+        ReflectionTestUtils.setField(config, "stackTraces", true);
+        try {
+            config.init();
+            assertTrue(new ObjectNotFound("com stack").getStackTrace().length > 0);
+        } finally {
+            ReflectionTestUtils.setField(config, "stackTraces", false);
+            config.init();
+        }
+        assertEquals(0, new ObjectNotFound("sem stack").getStackTrace().length);
+    }
+
+}
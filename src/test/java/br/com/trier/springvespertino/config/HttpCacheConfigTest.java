@@ -0,0 +1,125 @@
+package br.com.trier.springvespertino.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import br.com.trier.springvespertino.SpringVespertinoApplication;
+import br.com.trier.springvespertino.config.jwt.LoginDTO;
+import br.com.trier.springvespertino.services.TeamStandingsService;
+
+@ActiveProfiles("test")
+@SpringBootTest(classes = SpringVespertinoApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Sql({"classpath:/resources/sqls/limpa_tabelas.sql", "classpath:/resources/sqls/usuario.sql"})
+public class HttpCacheConfigTest {
+
+	@Autowired
+	protected TestRestTemplate rest;
+
+	@Autowired
+	private TeamStandingsService teamStandingsService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	public void setUp() {
+		jdbcTemplate.execute("INSERT INTO pais (id, name) VALUES (6,'EUA');");
+		jdbcTemplate.execute("INSERT INTO equipe (id_quipe, nome_equipe) VALUES (6,'Team 1');");
+		jdbcTemplate.execute("INSERT INTO piloto (id_piloto, nome_piloto, country_id, team_id_quipe) VALUES (6,'Alisson', 6, 6);");
+		jdbcTemplate.execute("INSERT INTO pista (id_pista, nome_pista, tamanho_pista, country_id) VALUES (6,'Alasca', 600, 6);");
+		jdbcTemplate.execute("INSERT INTO campeonato (codigo_campeonato, descricao, ano) VALUES (6,'F1', 2023);");
+		jdbcTemplate.execute("INSERT INTO corrida (id_corrida, data_corrida, championship_codigo_campeonato, speedway_id_pista) VALUES (6,'2023-07-23 15:00:00', 6, 6);");
+		jdbcTemplate.execute("INSERT INTO corrida (id_corrida, data_corrida, championship_codigo_campeonato, speedway_id_pista) VALUES (7,'2023-08-20 15:00:00', 6, 6);");
+		jdbcTemplate.execute("INSERT INTO piloto_corrida (id, colocacao, pilot_id_piloto, race_id_corrida) VALUES (9006, 1, 6, 6);");
+		teamStandingsService.rebuild();
+	}
+
+	@AfterEach
+	public void tearDown() {
+		jdbcTemplate.execute("DELETE FROM equipe_campeonato");
+		jdbcTemplate.execute("DELETE FROM piloto_corrida");
+		jdbcTemplate.execute("DELETE FROM corrida");
+		jdbcTemplate.execute("DELETE FROM campeonato");
+		jdbcTemplate.execute("DELETE FROM pista");
+		jdbcTemplate.execute("DELETE FROM piloto");
+		jdbcTemplate.execute("DELETE FROM equipe");
+		jdbcTemplate.execute("DELETE FROM pais");
+		jdbcTemplate.execute("DELETE FROM usuario");
+	}
+
+	private HttpHeaders getHeaders() {
+		ResponseEntity<String> token = rest.postForEntity("/auth/token", new LoginDTO("email1", "senha1"), String.class);
+		HttpHeaders headers = new HttpHeaders();
+		headers.setBearerAuth(token.getBody());
+		return headers;
+	}
+
+	private ResponseEntity<String> get(String url, String ifNoneMatch) {
+		HttpHeaders headers = getHeaders();
+		if (ifNoneMatch != null) {
+			headers.setIfNoneMatch(ifNoneMatch);
+		}
+		return rest.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+	}
+
+	@Test
+	@DisplayName("Leitura repetida com If-None-Match igual responde 304 sem corpo")
+	public void notModifiedTest() {
+		ResponseEntity<String> response = get("/championships/6", null);
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		String etag = response.getHeaders().getETag();
+		assertNotNull(etag);
+		assertEquals("no-cache, private", response.getHeaders().getCacheControl());
+		ResponseEntity<String> notModified = get("/championships/6", etag);
+		assertEquals(HttpStatus.NOT_MODIFIED, notModified.getStatusCode());
+		assertEquals(etag, notModified.getHeaders().getETag());
+		assertNull(notModified.getBody());
+		assertEquals(HttpStatus.OK, get("/championships/6", "\"outra\"").getStatusCode());
+	}
+
+	@Test
+	@DisplayName("Reconstrução por SQL nativo não deixa responder 304 com a ETag antiga")
+	public void notModifiedNotServedAfterNativeRebuildTest() {
+		String etag = get("/teams/standings/6", null).getHeaders().getETag();
+		assertEquals(HttpStatus.NOT_MODIFIED, get("/teams/standings/6", etag).getStatusCode());
+
+		jdbcTemplate.execute("INSERT INTO piloto_corrida (id, colocacao, pilot_id_piloto, race_id_corrida) VALUES (9007, 2, 6, 7);");
+		teamStandingsService.rebuild();
+		ResponseEntity<String> response = get("/teams/standings/6", etag);
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		assertNotEquals(etag, response.getHeaders().getETag());
+	}
+
+	@Test
+	@DisplayName("Listagem em NDJSON e rotas fora da lista saem sem ETag")
+	public void notFilteredTest() {
+		HttpHeaders headers = getHeaders();
+		headers.setAccept(List.of(MediaType.APPLICATION_NDJSON));
+		ResponseEntity<String> stream = rest.exchange("/championships", HttpMethod.GET, new HttpEntity<>(headers), String.class);
+		assertEquals(HttpStatus.OK, stream.getStatusCode());
+		assertNull(stream.getHeaders().getETag());
+		assertNull(get("/teams", null).getHeaders().getETag());
+	}
+
+}
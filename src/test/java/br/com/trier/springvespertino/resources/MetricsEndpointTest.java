@@ -0,0 +1,64 @@
+package br.com.trier.springvespertino.resources;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import br.com.trier.springvespertino.SpringVespertinoApplication;
+import br.com.trier.springvespertino.resources.exceptions.ResourceExceptionHandler;
+import br.com.trier.springvespertino.services.CountryService;
+import br.com.trier.springvespertino.services.exceptions.ObjectNotFound;
+
+@ActiveProfiles("test")
+@AutoConfigureObservability
+@SpringBootTest(classes = SpringVespertinoApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class MetricsEndpointTest {
+
+	@Autowired
+	protected TestRestTemplate rest;
+
+	@Autowired
+	private CountryService countryService;
+
+	@Autowired
+	private ResourceExceptionHandler exceptionHandler;
+
+	@LocalManagementPort
+	private int managementPort;
+
+	@Test
+	@DisplayName("Métricas de serviço, repositório, jwt e erros no formato Prometheus")
+	public void prometheusTest() {
+		countryService.listAll();
+		exceptionHandler.getObjectNotFoundExcpetion(new ObjectNotFound("País não existe"), new MockHttpServletRequest());
+		ResponseEntity<String> response = rest.getForEntity("http://localhost:" + managementPort + "/actuator/prometheus", String.class);
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		String body = response.getBody();
+		assertTrue(body.contains("service_invocations_seconds_bucket{class=\"CountryServiceImpl\",exception=\"none\","));
+		assertTrue(body.contains("spring_data_repository_invocations_seconds_bucket{exception=\"None\",method=\"findAll\",repository=\"CountryRepository\",state=\"SUCCESS\",le="));
+		assertTrue(body.contains("http_errors_total{exception=\"ObjectNotFound\",status=\"404\",}"));
+		assertTrue(body.contains("cache_gets_total{cache=\"jwt.users\""));
+		assertTrue(body.contains("jwt_parse_seconds_bucket"));
+		assertTrue(body.contains("report_cache_gets_total{result=\"hit\",}"));
+	}
+
+	@Test
+	@DisplayName("Métricas não ficam expostas na porta pública")
+	public void prometheusNotOnPublicPortTest() {
+		ResponseEntity<String> response = rest.getForEntity("/actuator/prometheus", String.class);
+		assertNotEquals(HttpStatus.OK, response.getStatusCode());
+	}
+
+}
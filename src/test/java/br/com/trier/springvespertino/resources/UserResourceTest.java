@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.util.List;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,6 +17,7 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 
@@ -29,6 +31,15 @@ public class UserResourceTest {
 
 	@Autowired
 	protected TestRestTemplate rest;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	// o H2 em memória é compartilhado com as outras suítes: não deixa os usuários do script para trás
+	@AfterEach
+	public void tearDown() {
+		jdbcTemplate.execute("DELETE FROM usuario");
+	}
 	
 	private HttpHeaders getHeaders(String email, String password){
 		LoginDTO loginDTO = new LoginDTO(email, password);
@@ -129,6 +140,34 @@ public class UserResourceTest {
 		assertEquals(2, response.getBody().size());
 	}
 	
+	@Test
+	@DisplayName("Listar por cursor")
+	@Sql({"classpath:/resources/sqls/limpa_tabelas.sql"})
+	@Sql({"classpath:/resources/sqls/usuario.sql"})
+	public void findAllAfter() {
+		ResponseEntity<List<UserDTO>> response = getUsers("/users?after=3&limit=10");
+		assertEquals(response.getStatusCode(), HttpStatus.OK);
+		assertEquals(1, response.getBody().size());
+		assertEquals(4, response.getBody().get(0).getId());
+	}
+	
+	@Test
+	@DisplayName("Listar em NDJSON")
+	@Sql({"classpath:/resources/sqls/limpa_tabelas.sql"})
+	@Sql({"classpath:/resources/sqls/usuario.sql"})
+	public void streamAll() {
+		HttpHeaders headers = getHeaders("email1", "senha1");
+		headers.setAccept(List.of(MediaType.APPLICATION_NDJSON));
+		ResponseEntity<String> response = rest.exchange(
+				"/users", 
+				HttpMethod.GET, 
+				new HttpEntity<>(headers),
+				String.class
+				);
+		assertEquals(response.getStatusCode(), HttpStatus.OK);
+		assertEquals(2, response.getBody().lines().count());
+	}
+	
 	@Test
 	@DisplayName("Alterar usuário")
 	@Sql({"classpath:/resources/sqls/limpa_tabelas.sql"})
@@ -0,0 +1,43 @@
+package br.com.trier.springvespertino.resources.exceptions;
+
+import br.com.trier.springvespertino.services.exceptions.IntegrityViolation;
+import br.com.trier.springvespertino.services.exceptions.ObjectNotFound;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StandardErrorTest {
+
+    private final ObjectMapper mapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+
+    @Test
+    @DisplayName("Teste JSON do erro igual ao do Jackson")
+    void sameAsJacksonTest() throws Exception {
+        LocalDateTime time = LocalDateTime.of(2023, 7, 23, 15, 30, 12, 345_000_000);
+        for (String message : new String[] { "País não existe", "Nome \"já\" existente: a\\b\n\t\u0001", null }) {
+            StandardError error = new StandardError(time, 404, message, "/pais/10");
+            assertEquals(mapper.readTree(mapper.writeValueAsBytes(error)), mapper.readTree(error.toJson()));
+        }
+        for (LocalDateTime t : new LocalDateTime[] { time.withNano(0), time.withSecond(0).withNano(0), time.withNano(100_000_000), null }) {
+            StandardError error = new StandardError(t, 400, "Ano inválido", "/campeonato");
+            assertEquals(new String(mapper.writeValueAsBytes(error), StandardCharsets.UTF_8), new String(error.toJson(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    @DisplayName("Teste exceções de serviço sem stack trace")
+    void stacklessTest() {
+        assertEquals(0, new ObjectNotFound("País não existe").getStackTrace().length);
+        assertEquals(0, new IntegrityViolation("Ano inválido").getStackTrace().length);
+        assertEquals("País não existe", new ObjectNotFound("País não existe").getMessage());
+    }
+
+}
@@ -0,0 +1,76 @@
+package br.com.trier.springvespertino.services;
+
+import br.com.trier.springvespertino.BaseTest;
+import br.com.trier.springvespertino.models.dto.ApostaLoteDto;
+import br.com.trier.springvespertino.models.dto.DistribuicaoDto;
+import br.com.trier.springvespertino.models.dto.SimulacaoDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DiceServiceTest extends BaseTest {
+
+    @Autowired
+    DiceService diceService;
+
+    @Test
+    @DisplayName("Teste jogar dados")
+    void rollTest() {
+        for (int i = 0; i < 1000; i++) {
+            int[] dados = diceService.roll(4);
+            assertEquals(4, dados.length);
+            for (int dado : dados) {
+                assertTrue(dado >= 1 && dado <= 6);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Teste diferença percentual da aposta")
+    void percDifTest() {
+        assertEquals(50.0, diceService.percDif(6, 12));
+        assertEquals(50.0, diceService.percDif(12, 6));
+        assertEquals(0.0, diceService.percDif(7, 7));
+    }
+
+    @Test
+    @DisplayName("Teste jogar em lote")
+    void playBatchTest() {
+        ApostaLoteDto lote = diceService.playBatch(2, 7, 60000);
+        assertEquals(60000, lote.getPlays());
+        assertEquals(11, lote.getFrequencies().size());
+        assertEquals(60000, lote.getFrequencies().values().stream().mapToInt(Integer::intValue).sum());
+        assertEquals(lote.getHits(), lote.getFrequencies().get(7));
+        assertEquals(100.0 / 6, lote.getHitPercent(), 1.0);
+        assertEquals(7.0, lote.getAverageSum(), 0.1);
+        assertNotNull(lote.getAveragePercent());
+    }
+
+    @Test
+    @DisplayName("Teste distribuição exata dos dados")
+    void distributionTest() {
+        for (int qtDados = 1; qtDados <= 4; qtDados++) {
+            DistribuicaoDto distribuicao = diceService.distribution(qtDados);
+            assertEquals(qtDados * 5 + 1, distribuicao.getProbabilities().size());
+            assertEquals(1.0, distribuicao.getProbabilities().values().stream().mapToDouble(Double::doubleValue).sum(), 1e-12);
+        }
+        DistribuicaoDto doisDados = diceService.distribution(2);
+        assertEquals(1.0 / 6, doisDados.getProbabilities().get(7), 1e-12);
+        assertEquals(1.0 / 36, doisDados.getProbabilities().get(12), 1e-12);
+        assertEquals(100.0 / 6 * (1.0 / 2 + 2.0 / 3 + 3.0 / 4 + 4.0 / 5 + 5.0 / 6), diceService.distribution(1).getExpectedPercent().get(1), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Teste simulação Monte Carlo próxima da distribuição exata")
+    void simulateTest() {
+        SimulacaoDto simulacao = diceService.simulate(3, 10, 1_000_000);
+        assertEquals(1_000_000, simulacao.getTrials());
+        assertEquals(simulacao.getExactHitPercent(), simulacao.getHitPercent(), 0.5);
+        assertEquals(simulacao.getExactAveragePercent(), simulacao.getAveragePercent(), 0.5);
+        assertEquals(27.0 / 216 * 100, simulacao.getExactHitPercent(), 1e-9);
+        assertEquals(1, diceService.simulate(1, 1, 1).getTrials());
+    }
+
+}
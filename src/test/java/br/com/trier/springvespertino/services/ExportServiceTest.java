@@ -0,0 +1,155 @@
+package br.com.trier.springvespertino.services;
+
+import br.com.trier.springvespertino.BaseTest;
+import br.com.trier.springvespertino.utils.ResultsExportWriter;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Transactional
+public class ExportServiceTest extends BaseTest {
+
+    @Autowired
+    ExportService exportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        jdbcTemplate.execute("INSERT INTO pais (id, name) VALUES (6,'EUA');");
+        jdbcTemplate.execute("INSERT INTO equipe (id_quipe, nome_equipe) VALUES (6,'Team 1');");
+        jdbcTemplate.execute("INSERT INTO piloto (id_piloto, nome_piloto, country_id, team_id_quipe) VALUES (6,'Alisson', 6, 6);");
+        jdbcTemplate.execute("INSERT INTO piloto (id_piloto, nome_piloto, country_id, team_id_quipe) VALUES (7,'Clavison', 6, 6);");
+        jdbcTemplate.execute("INSERT INTO pista (id_pista, nome_pista, tamanho_pista, country_id) VALUES (6,'Alasca', 600, 6);");
+        jdbcTemplate.execute("INSERT INTO campeonato (codigo_campeonato, descricao, ano) VALUES (6,'F1', 2023);");
+        jdbcTemplate.execute("INSERT INTO corrida (id_corrida, data_corrida, championship_codigo_campeonato, speedway_id_pista) VALUES (6,'2023-07-23 15:00:00', 6, 6);");
+        jdbcTemplate.execute("INSERT INTO corrida (id_corrida, data_corrida, championship_codigo_campeonato, speedway_id_pista) VALUES (7,'2023-08-20 15:00:00', 6, 6);");
+        jdbcTemplate.execute("INSERT INTO piloto_corrida (id, colocacao, pilot_id_piloto, race_id_corrida) VALUES (9006, 1, 6, 6);");
+        jdbcTemplate.execute("INSERT INTO piloto_corrida (id, colocacao, pilot_id_piloto, race_id_corrida) VALUES (9007, 2, 7, 6);");
+        jdbcTemplate.execute("INSERT INTO piloto_corrida (id, colocacao, pilot_id_piloto, race_id_corrida) VALUES (9008, 5, 6, 7);");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.execute("DELETE FROM piloto_corrida");
+        jdbcTemplate.execute("DELETE FROM corrida");
+        jdbcTemplate.execute("DELETE FROM campeonato");
+        jdbcTemplate.execute("DELETE FROM pista");
+        jdbcTemplate.execute("DELETE FROM piloto");
+        jdbcTemplate.execute("DELETE FROM equipe");
+        jdbcTemplate.execute("DELETE FROM pais");
+    }
+
+    private static String row(int[][] columns, long[] dates, List<String> dictionary, int row) {
+        return "%d %d %d %d %d %s %d %s %d %s %d".formatted(columns[0][row], columns[1][row], columns[2][row], dates[row],
+                columns[4][row], dictionary.get(columns[5][row]), columns[6][row], dictionary.get(columns[7][row]),
+                columns[8][row], dictionary.get(columns[9][row]), columns[10][row]);
+    }
+
+    private static List<String> decode(byte[] bytes) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        assertEquals(ResultsExportWriter.MAGIC, in.readInt());
+        assertEquals(ResultsExportWriter.VERSION, in.readByte());
+        List<String> dictionary = new ArrayList<>();
+        List<String> rows = new ArrayList<>();
+        for (int count = in.readInt(); count > 0; count = in.readInt()) {
+            for (int entries = in.readInt(); entries > 0; entries--) {
+                dictionary.add(new String(in.readNBytes(in.readInt()), StandardCharsets.UTF_8));
+            }
+            int[][] columns = new int[ResultsExportWriter.COLUMNS.length][count];
+            long[] dates = new long[count];
+            for (int column = 0; column < columns.length; column++) {
+                for (int row = 0; row < count; row++) {
+                    if (column == 3) {
+                        dates[row] = in.readLong();
+                    } else {
+                        columns[column][row] = in.readInt();
+                    }
+                }
+            }
+            for (int row = 0; row < count; row++) {
+                rows.add(row(columns, dates, dictionary, row));
+            }
+        }
+        assertEquals(-1, in.read());
+        assertEquals(List.of("Alisson", "Alasca", "F1", "Clavison"), dictionary);
+        return rows;
+    }
+
+    @Test
+    @DisplayName("Teste exportar resultados no formato colunar")
+    void exportResultsTest() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.exportResults(out);
+        long race6 = Timestamp.valueOf("2023-07-23 15:00:00").getTime();
+        long race7 = Timestamp.valueOf("2023-08-20 15:00:00").getTime();
+        assertEquals(List.of(
+                "9006 1 6 %d 6 Alisson 6 Alasca 6 F1 2023".formatted(race6),
+                "9007 2 6 %d 7 Clavison 6 Alasca 6 F1 2023".formatted(race6),
+                "9008 5 7 %d 6 Alisson 6 Alasca 6 F1 2023".formatted(race7)), decode(out.toByteArray()));
+    }
+
+    @Test
+    @DisplayName("Teste exportar sem resultados")
+    void exportEmptyTest() throws IOException {
+        jdbcTemplate.execute("DELETE FROM piloto_corrida");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.exportResults(out);
+        assertEquals(9, out.size());
+    }
+
+    @Test
+    @DisplayName("Teste exportação interrompida no meio não grava o terminador")
+    void exportFailureTest() throws IOException {
+        String sql = """
+                select pr.id as id, pr.colocacao as colocacao, r.id_corrida as corrida_id, r.data_corrida as corrida_data,
+                    p.id_piloto as piloto_id, p.nome_piloto as piloto_nome, s.id_pista as pista_id, s.nome_pista as pista_nome,
+                    c.codigo_campeonato as campeonato_id, c.descricao as campeonato_nome, c.ano as campeonato_ano
+                from piloto_corrida pr
+                join piloto p on p.id_piloto = pr.pilot_id_piloto
+                join corrida r on r.id_corrida = pr.race_id_corrida
+                join pista s on s.id_pista = r.speedway_id_pista
+                join campeonato c on c.codigo_campeonato = r.championship_codigo_campeonato
+                where pr.id < %d
+                order by pr.id
+                """;
+        ByteArrayOutputStream complete = new ByteArrayOutputStream();
+        try (ResultsExportWriter writer = new ResultsExportWriter(complete, 1)) {
+            jdbcTemplate.query(sql.formatted(9008), writer);
+            writer.finish();
+        }
+        ByteArrayOutputStream interrupted = new ByteArrayOutputStream();
+        assertThrows(IllegalStateException.class, () -> {
+            try (ResultsExportWriter writer = new ResultsExportWriter(interrupted, 1)) {
+                jdbcTemplate.query(sql.formatted(9009), rs -> {
+                    if (rs.getInt("id") == 9008) {
+                        throw new IllegalStateException("falha no meio da exportação");
+                    }
+                    writer.processRow(rs);
+                });
+                writer.finish();
+            }
+        });
+        byte[] bytes = complete.toByteArray();
+        assertArrayEquals(new byte[4], Arrays.copyOfRange(bytes, bytes.length - 4, bytes.length));
+        assertArrayEquals(Arrays.copyOf(bytes, bytes.length - 4), interrupted.toByteArray());
+    }
+
+}
@@ -4,11 +4,14 @@ import br.com.trier.springvespertino.BaseTest;
 import br.com.trier.springvespertino.models.*;
 import br.com.trier.springvespertino.services.exceptions.IntegrityViolation;
 import br.com.trier.springvespertino.services.exceptions.ObjectNotFound;
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.JdbcTemplate;
 
@@ -26,6 +29,9 @@ public class PilotRaceServiceTest extends BaseTest {
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @BeforeEach
     public void setUp() {
         jdbcTemplate.execute("INSERT INTO pais (id, name) VALUES (6,'EUA');");
@@ -80,16 +86,27 @@ public class PilotRaceServiceTest extends BaseTest {
     @DisplayName("Teste inserir pista")
     void insertPilotRaceTest() {
         Race race  = new Race(6, ZonedDateTime.now(), new Speedway(6, "F8 Race", 800, new Country()), new Championship(6, "F8", 2023));
-        Pilot pilot = new Pilot(6, "Alisson", new Country(6, "EUA"), new Team(6, "Team 1"));
+        Pilot pilot = new Pilot(7, "Clavison", new Country(7, "Grécia"), new Team(7, "Team 2"));
         PilotRace pilotRace  = new PilotRace(1, 3, pilot, race);
-        pilotRaceService.insert(pilotRace);
-        PilotRace pilotRaceDB = pilotRaceService.findById(1);
-        assertEquals(1, pilotRaceDB.getId());
+        PilotRace inserted = pilotRaceService.insert(pilotRace);
+        PilotRace pilotRaceDB = pilotRaceService.findById(inserted.getId());
+        assertEquals(inserted.getId(), pilotRaceDB.getId());
         assertEquals(3, pilotRaceDB.getPlacement());
-        assertEquals("Alisson", pilotRaceDB.getPilot().getName());
+        assertEquals("Clavison", pilotRaceDB.getPilot().getName());
         assertEquals(6, pilotRaceDB.getRace().getId());
     }
 
+    @Test
+    @DisplayName("Teste inserir piloto repetido na corrida")
+    void insertPilotRaceDuplicatedPilotTest() {
+        Race race  = new Race(6, ZonedDateTime.now(), new Speedway(6, "F8 Race", 800, new Country()), new Championship(6, "F8", 2023));
+        Pilot pilot = new Pilot(6, "Alisson", new Country(6, "EUA"), new Team(6, "Team 1"));
+        PilotRace pilotRace  = new PilotRace(null, 3, pilot, race);
+        var exception = assertThrows(
+                IntegrityViolation.class, () -> pilotRaceService.insert(pilotRace));
+        assertEquals("Piloto 6 repetido na corrida 6!", exception.getMessage());
+    }
+
     @Test
     @DisplayName("Teste inserir corrida campeonato invalido")
     void insertPilotRaceInvalidPlacementTest() {
@@ -105,6 +122,73 @@ public class PilotRaceServiceTest extends BaseTest {
         assertEquals("Colocacao zero!", exceptionTwo.getMessage());
     }
 
+    @Test
+    @DisplayName("Teste inserir classificação em lote")
+    void insertAllPilotRaceTest() {
+        Race race  = new Race(6, ZonedDateTime.now(), new Speedway(6, "F8 Race", 800, new Country()), new Championship(6, "F8", 2023));
+        Race raceTwo  = new Race(7, ZonedDateTime.now(), new Speedway(7, "F8 Race", 800, new Country()), new Championship(7, "F8", 2024));
+        Pilot pilot = new Pilot(6, "Alisson", new Country(6, "EUA"), new Team(6, "Team 1"));
+        Pilot pilotTwo = new Pilot(7, "Clavison", new Country(7, "Grécia"), new Team(7, "Team 2"));
+        List<PilotRace> lista = pilotRaceService.insertAll(List.of(
+                new PilotRace(null, 2, pilotTwo, race),
+                new PilotRace(null, 1, pilot, raceTwo)));
+        assertEquals(2, lista.size());
+        assertEquals(4, pilotRaceService.listAll().size());
+        assertEquals(2, pilotRaceService.findByRaceOrderByPlacementAsc(race).size());
+    }
+
+    @Test
+    @DisplayName("Teste inserir classificação em lote com colocação ou piloto repetido")
+    void insertAllPilotRaceInvalidTest() {
+        Race race  = new Race(6, ZonedDateTime.now(), new Speedway(6, "F8 Race", 800, new Country()), new Championship(6, "F8", 2023));
+        Pilot pilot = new Pilot(6, "Alisson", new Country(6, "EUA"), new Team(6, "Team 1"));
+        Pilot pilotTwo = new Pilot(7, "Clavison", new Country(7, "Grécia"), new Team(7, "Team 2"));
+        var exception = assertThrows(
+                IntegrityViolation.class, () -> pilotRaceService.insertAll(List.of(
+                        new PilotRace(null, 1, pilot, race),
+                        new PilotRace(null, 1, pilotTwo, race))));
+        assertEquals("Colocacao 1 repetida na corrida 6!", exception.getMessage());
+        var exceptionTwo = assertThrows(
+                IntegrityViolation.class, () -> pilotRaceService.insertAll(List.of(
+                        new PilotRace(null, 1, pilot, race),
+                        new PilotRace(null, 2, pilot, race))));
+        assertEquals("Piloto 6 repetido na corrida 6!", exceptionTwo.getMessage());
+        var exceptionThree = assertThrows(
+                IntegrityViolation.class, () -> pilotRaceService.insertAll(List.of(
+                        new PilotRace(null, 0, pilot, race))));
+        assertEquals("Colocacao zero!", exceptionThree.getMessage());
+        assertEquals(2, pilotRaceService.listAll().size());
+    }
+
+    @Test
+    @DisplayName("Teste inserir classificação em lote repetindo piloto ou colocação já gravados")
+    void insertAllPilotRaceConflictsWithDatabaseTest() {
+        Race race  = new Race(6, ZonedDateTime.now(), new Speedway(6, "F8 Race", 800, new Country()), new Championship(6, "F8", 2023));
+        Pilot pilot = new Pilot(6, "Alisson", new Country(6, "EUA"), new Team(6, "Team 1"));
+        Pilot pilotTwo = new Pilot(7, "Clavison", new Country(7, "Grécia"), new Team(7, "Team 2"));
+        var exception = assertThrows(
+                IntegrityViolation.class, () -> pilotRaceService.insertAll(List.of(
+                        new PilotRace(null, 2, pilot, race))));
+        assertEquals("Piloto 6 repetido na corrida 6!", exception.getMessage());
+        var exceptionTwo = assertThrows(
+                IntegrityViolation.class, () -> pilotRaceService.insertAll(List.of(
+                        new PilotRace(null, 1, pilotTwo, race))));
+        assertEquals("Colocacao 1 repetida na corrida 6!", exceptionTwo.getMessage());
+        assertEquals(2, pilotRaceService.listAll().size());
+    }
+
+    @Test
+    @DisplayName("Teste alterar colocação para uma já ocupada na corrida")
+    void updatePilotRaceDuplicatedPlacementTest() {
+        jdbcTemplate.execute("INSERT INTO piloto_corrida (id, colocacao, pilot_id_piloto, race_id_corrida) VALUES (8,'2', 7, 6);");
+        PilotRace pilotRace = pilotRaceService.findById(6);
+        entityManager.detach(pilotRace);
+        pilotRace.setPlacement(2);
+        var exception = assertThrows(
+                IntegrityViolation.class, () -> pilotRaceService.update(pilotRace));
+        assertEquals("Colocacao 2 repetida na corrida 6!", exception.getMessage());
+    }
+
     @Test
     @DisplayName("Teste listar todos")
     void listAllPilotRaceTest() {
@@ -112,6 +196,37 @@ public class PilotRaceServiceTest extends BaseTest {
         assertEquals(2, lista.size());
     }
 
+    @Test
+    @DisplayName("Teste quantidade de consultas ao listar colocações independe do total")
+    void listAllStatementCountTest() {
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        try {
+            entityManager.clear();
+            statistics.clear();
+            assertEquals(2, pilotRaceService.listAll().size());
+            long statements = statistics.getPrepareStatementCount();
+            for (int i = 8; i < 18; i++) {
+                jdbcTemplate.execute("INSERT INTO pais (id, name) VALUES (%d,'Pais %d');".formatted(i, i));
+                jdbcTemplate.execute("INSERT INTO equipe (id_quipe, nome_equipe) VALUES (%d,'Equipe %d');".formatted(i, i));
+                jdbcTemplate.execute("INSERT INTO piloto (id_piloto, nome_piloto, country_id, team_id_quipe) VALUES (%d,'Piloto %d', %d, %d);".formatted(i, i, i, i));
+                jdbcTemplate.execute("INSERT INTO pista (id_pista, nome_pista, tamanho_pista, country_id) VALUES (%d,'Pista %d', 500, %d);".formatted(i, i, i));
+                jdbcTemplate.execute("INSERT INTO campeonato (codigo_campeonato, descricao, ano) VALUES (%d,'Campeonato %d', 2023);".formatted(i, i));
+                jdbcTemplate.execute("INSERT INTO corrida (id_corrida, data_corrida, championship_codigo_campeonato, speedway_id_pista) VALUES (%d,'2023-08-01 10:00:00', %d, %d);".formatted(i, i, i));
+                jdbcTemplate.execute("INSERT INTO piloto_corrida (id, colocacao, pilot_id_piloto, race_id_corrida) VALUES (%d,'1', %d, %d);".formatted(i, i, i));
+            }
+            entityManager.clear();
+            statistics.clear();
+            var lista = pilotRaceService.listAll();
+            assertEquals(12, lista.size());
+            lista.forEach(PilotRace::toDTO);
+            assertEquals(1, statements);
+            assertEquals(statements, statistics.getPrepareStatementCount());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
     @Test
     @DisplayName("Teste listar todas sem possuir colocação cadastradas")
     void listAllPilotRaceEmptyTest() {
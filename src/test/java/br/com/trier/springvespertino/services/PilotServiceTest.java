@@ -4,6 +4,7 @@ import br.com.trier.springvespertino.BaseTest;
 import br.com.trier.springvespertino.models.Country;
 import br.com.trier.springvespertino.models.Pilot;
 import br.com.trier.springvespertino.models.Team;
+import br.com.trier.springvespertino.services.exceptions.IntegrityViolation;
 import br.com.trier.springvespertino.services.exceptions.ObjectNotFound;
 import jakarta.transaction.Transactional;
 import org.junit.jupiter.api.AfterEach;
@@ -13,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.JdbcTemplate;
 
+import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -56,6 +58,20 @@ public class PilotServiceTest extends BaseTest {
         assertEquals("EUA", pilot.getCountry().getName());
     }
 
+    @Test
+    @DisplayName("Teste buscar pilotos por lista de IDs")
+    void findAllByIdTest() {
+        List<Pilot> lista = pilotService.findAllById(List.of(6, 7));
+        assertEquals(2, lista.size());
+        var exception = assertThrows(
+                ObjectNotFound.class, () -> pilotService.findAllById(List.of(6, 10)));
+        assertEquals("Pilot 10 não existe", exception.getMessage());
+        assertEquals(2, pilotService.findAllById(List.of(6, 7, 6)).size());
+        var exceptionTwo = assertThrows(
+                IntegrityViolation.class, () -> pilotService.findAllById(Arrays.asList(6, null)));
+        assertEquals("ID null!", exceptionTwo.getMessage());
+    }
+
     @Test
     @DisplayName("Teste buscar piloto por ID inexistente")
     void findByIdNonExistsTest() {
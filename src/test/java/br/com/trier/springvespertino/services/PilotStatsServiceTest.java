@@ -0,0 +1,175 @@
+package br.com.trier.springvespertino.services;
+
+import br.com.trier.springvespertino.BaseTest;
+import br.com.trier.springvespertino.models.Pilot;
+import br.com.trier.springvespertino.models.PilotRace;
+import br.com.trier.springvespertino.models.Race;
+import br.com.trier.springvespertino.models.dto.PilotStatsDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.transaction.TestTransaction;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Transactional
+public class PilotStatsServiceTest extends BaseTest {
+
+    @Autowired
+    PilotStatsService pilotStatsService;
+
+    @Autowired
+    PilotRaceService pilotRaceService;
+
+    @Autowired
+    PilotService pilotService;
+
+    @Autowired
+    RaceService raceService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    public void setUp() {
+        jdbcTemplate.execute("INSERT INTO pais (id, name) VALUES (6,'EUA');");
+        jdbcTemplate.execute("INSERT INTO equipe (id_quipe, nome_equipe) VALUES (6,'Team 1');");
+        jdbcTemplate.execute("INSERT INTO piloto (id_piloto, nome_piloto, country_id, team_id_quipe) VALUES (6,'Alisson', 6, 6);");
+        jdbcTemplate.execute("INSERT INTO piloto (id_piloto, nome_piloto, country_id, team_id_quipe) VALUES (7,'Clavison', 6, 6);");
+        jdbcTemplate.execute("INSERT INTO piloto (id_piloto, nome_piloto, country_id, team_id_quipe) VALUES (8,'Ayrton', 6, 6);");
+        jdbcTemplate.execute("INSERT INTO pista (id_pista, nome_pista, tamanho_pista, country_id) VALUES (6,'Alasca', 600, 6);");
+        jdbcTemplate.execute("INSERT INTO campeonato (codigo_campeonato, descricao, ano) VALUES (6,'F1', 2023);");
+        jdbcTemplate.execute("INSERT INTO corrida (id_corrida, data_corrida, championship_codigo_campeonato, speedway_id_pista) VALUES (6,'2023-07-23 15:00:00', 6, 6);");
+        jdbcTemplate.execute("INSERT INTO corrida (id_corrida, data_corrida, championship_codigo_campeonato, speedway_id_pista) VALUES (7,'2023-08-20 15:00:00', 6, 6);");
+        jdbcTemplate.execute("INSERT INTO piloto_corrida (id, colocacao, pilot_id_piloto, race_id_corrida) VALUES (9006, 1, 6, 6);");
+        jdbcTemplate.execute("INSERT INTO piloto_corrida (id, colocacao, pilot_id_piloto, race_id_corrida) VALUES (9007, 2, 7, 6);");
+        jdbcTemplate.execute("INSERT INTO piloto_corrida (id, colocacao, pilot_id_piloto, race_id_corrida) VALUES (9008, 5, 6, 7);");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.execute("DELETE FROM piloto_estatistica");
+        jdbcTemplate.execute("DELETE FROM piloto_corrida");
+        jdbcTemplate.execute("DELETE FROM corrida");
+        jdbcTemplate.execute("DELETE FROM campeonato");
+        jdbcTemplate.execute("DELETE FROM pista");
+        jdbcTemplate.execute("DELETE FROM piloto");
+        jdbcTemplate.execute("DELETE FROM equipe");
+        jdbcTemplate.execute("DELETE FROM pais");
+    }
+
+    private PilotStatsDTO stats(Integer pilotId) {
+        // as atualizações por delta são bulk: descarta o que o contexto de persistência tiver em memória
+        entityManager.flush();
+        entityManager.clear();
+        return pilotStatsService.findByPilot(pilotService.findById(pilotId));
+    }
+
+    private void assertStats(PilotStatsDTO expected, PilotStatsDTO actual) {
+        assertEquals(expected.getRaces(), actual.getRaces());
+        assertEquals(expected.getWins(), actual.getWins());
+        assertEquals(expected.getPodiums(), actual.getPodiums());
+        assertEquals(expected.getAveragePlacement(), actual.getAveragePlacement());
+    }
+
+    @Test
+    @DisplayName("Teste reconstruir estatísticas a partir dos resultados")
+    void rebuildTest() {
+        assertEquals(2, pilotStatsService.rebuild());
+        PilotStatsDTO stats = stats(6);
+        assertEquals("Alisson", stats.getPilotName());
+        assertEquals(2, stats.getRaces());
+        assertEquals(1, stats.getWins());
+        assertEquals(1, stats.getPodiums());
+        assertEquals(3.0, stats.getAveragePlacement());
+        stats = stats(7);
+        assertEquals(1, stats.getRaces());
+        assertEquals(0, stats.getWins());
+        assertEquals(1, stats.getPodiums());
+        assertEquals(2.0, stats.getAveragePlacement());
+    }
+
+    @Test
+    @DisplayName("Teste piloto sem resultados")
+    void emptyStatsTest() {
+        pilotStatsService.rebuild();
+        PilotStatsDTO stats = stats(8);
+        assertEquals(0, stats.getRaces());
+        assertNull(stats.getAveragePlacement());
+    }
+
+    @Test
+    @DisplayName("Teste inserir, alterar e remover resultados atualiza estatísticas por delta")
+    void incrementalTest() {
+        pilotStatsService.rebuild();
+        Race race = raceService.findById(7);
+        Pilot ayrton = pilotService.findById(8);
+        PilotRace inserted = pilotRaceService.insert(new PilotRace(null, 1, ayrton, race));
+        pilotRaceService.insertAll(List.of(new PilotRace(null, 3, pilotService.findById(7), race)));
+        PilotStatsDTO stats = stats(8);
+        assertEquals(1, stats.getRaces());
+        assertEquals(1, stats.getWins());
+
+        pilotRaceService.update(new PilotRace(inserted.getId(), 4, ayrton, race));
+        pilotRaceService.update(new PilotRace(9008, 2, pilotService.findById(6), race));
+        pilotRaceService.delete(9007);
+        stats = stats(8);
+        assertEquals(0, stats.getWins());
+        assertEquals(0, stats.getPodiums());
+        assertEquals(4.0, stats.getAveragePlacement());
+
+        PilotStatsDTO alisson = stats(6);
+        PilotStatsDTO clavison = stats(7);
+        PilotStatsDTO ayrtonStats = stats(8);
+        pilotStatsService.rebuild();
+        assertStats(stats(6), alisson);
+        assertStats(stats(7), clavison);
+        assertStats(stats(8), ayrtonStats);
+    }
+
+    @Test
+    @DisplayName("Teste primeiro resultado do piloto gravado em paralelo não duplica a linha")
+    void concurrentFirstResultTest() throws Exception {
+        // as duas transações só enxergam a massa commitada
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+        Pilot ayrton = new Pilot(8, "Ayrton", null, null);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int placement = 1; placement <= 2; placement++) {
+                PilotRace pilotRace = new PilotRace(null, placement, ayrton, null);
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    pilotStatsService.add(List.of(pilotRace));
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT corridas FROM piloto_estatistica WHERE pilot_id_piloto = 8", Long.class));
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT soma_colocacoes FROM piloto_estatistica WHERE pilot_id_piloto = 8", Long.class));
+    }
+
+}
@@ -7,16 +7,20 @@ import br.com.trier.springvespertino.models.Race;
 import br.com.trier.springvespertino.models.Speedway;
 import br.com.trier.springvespertino.services.exceptions.IntegrityViolation;
 import br.com.trier.springvespertino.services.exceptions.ObjectNotFound;
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -30,6 +34,9 @@ public class RaceServiceTest extends BaseTest {
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @BeforeEach
     public void setUp() {
         jdbcTemplate.execute("INSERT INTO pais (id, name) VALUES (6,'EUA');");
@@ -117,6 +124,26 @@ public class RaceServiceTest extends BaseTest {
         assertEquals(2, lista.size());
     }
 
+    @Test
+    @DisplayName("Teste listar por cursor")
+    void listAllAfterRacesTest() {
+        List<Race> lista = raceService.listAll(null, 1);
+        assertEquals(1, lista.size());
+        assertEquals(6, lista.get(0).getId());
+        lista = raceService.listAll(6, 10);
+        assertEquals(1, lista.size());
+        assertEquals(7, lista.get(0).getId());
+        assertTrue(raceService.listAll(7, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Teste listar em stream")
+    void streamAllRacesTest() {
+        List<Integer> ids = new ArrayList<>();
+        raceService.streamAll(race -> ids.add(race.getId()));
+        assertEquals(List.of(6, 7), ids);
+    }
+
     @Test
     @DisplayName("Teste listar todas sem possuir corrida cadastradas")
     void listAllRacesEmptyTest() {
@@ -184,6 +211,47 @@ public class RaceServiceTest extends BaseTest {
         assertEquals("Não existe corrida para o campeonato especificado", exception.getMessage());
     }
 
+    @Test
+    @DisplayName("Teste relatório de corridas por país e ano")
+    void findReportByCountryAndYearTest() {
+        Country country = new Country(6, "EUA");
+        var lista = raceService.findReportByCountryAndYear(country, 2023);
+        assertEquals(1, lista.size());
+        assertEquals(6, lista.get(0).getId());
+        assertEquals("23/07/2023", lista.get(0).getDate());
+        assertEquals("Alasca", lista.get(0).getSpeedwayName());
+        assertEquals("F1", lista.get(0).getChampionshipName());
+        assertTrue(raceService.findReportByCountryAndYear(country, 2022).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Teste quantidade de consultas ao listar corridas independe do total")
+    void listAllStatementCountTest() {
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        try {
+            entityManager.clear();
+            statistics.clear();
+            assertEquals(2, raceService.listAll().size());
+            long statements = statistics.getPrepareStatementCount();
+            for (int i = 8; i < 18; i++) {
+                jdbcTemplate.execute("INSERT INTO pais (id, name) VALUES (%d,'Pais %d');".formatted(i, i));
+                jdbcTemplate.execute("INSERT INTO pista (id_pista, nome_pista, tamanho_pista, country_id) VALUES (%d,'Pista %d', 500, %d);".formatted(i, i, i));
+                jdbcTemplate.execute("INSERT INTO campeonato (codigo_campeonato, descricao, ano) VALUES (%d,'Campeonato %d', 2023);".formatted(i, i));
+                jdbcTemplate.execute("INSERT INTO corrida (id_corrida, data_corrida, championship_codigo_campeonato, speedway_id_pista) VALUES (%d,'2023-08-01 10:00:00', %d, %d);".formatted(i, i, i));
+            }
+            entityManager.clear();
+            statistics.clear();
+            var lista = raceService.listAll();
+            assertEquals(12, lista.size());
+            lista.forEach(Race::toDTO);
+            assertEquals(1, statements);
+            assertEquals(statements, statistics.getPrepareStatementCount());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
 
 
 
@@ -0,0 +1,69 @@
+package br.com.trier.springvespertino.services;
+
+import br.com.trier.springvespertino.BaseTest;
+import br.com.trier.springvespertino.models.Country;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:primary;DB_CLOSE_ON_EXIT=FALSE",
+        "app.datasource.replica.url=jdbc:h2:mem:replica;DB_CLOSE_ON_EXIT=FALSE",
+        "app.datasource.replica.username=sa",
+        "app.datasource.replica.driver-class-name=org.h2.Driver" })
+public class ReadReplicaRoutingTest extends BaseTest {
+
+    @Autowired
+    CountryService countryService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    public void setUp() {
+        replica = new JdbcTemplate(replicaDataSource);
+        replica.execute("CREATE TABLE IF NOT EXISTS pais (id INTEGER PRIMARY KEY, name VARCHAR(255))");
+        replica.execute("INSERT INTO pais (id, name) VALUES (7,'Brasil réplica');");
+        jdbcTemplate.execute("INSERT INTO pais (id, name) VALUES (7,'Brasil');");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        replica.execute("DELETE FROM pais");
+        jdbcTemplate.execute("DELETE FROM pais");
+    }
+
+    @Test
+    @DisplayName("Teste consulta somente leitura vai para a réplica")
+    void readOnlyGoesToReplicaTest() {
+        assertEquals("Brasil réplica", countryService.findById(7).getName());
+        assertEquals(1, countryService.listAll().size());
+        assertEquals("Brasil réplica", countryService.listAll().get(0).getName());
+    }
+
+    @Test
+    @DisplayName("Teste gravação vai para o banco principal")
+    void writeGoesToPrimaryTest() {
+        countryService.salvar(new Country(null, "Argentina"));
+        countryService.update(new Country(7, "Chile"));
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM pais", Integer.class));
+        assertEquals("Chile", jdbcTemplate.queryForObject("SELECT name FROM pais WHERE id = 7", String.class));
+        assertEquals("Brasil réplica", countryService.findById(7).getName());
+    }
+
+}
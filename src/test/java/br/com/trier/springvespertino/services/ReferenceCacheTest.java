@@ -0,0 +1,81 @@
+package br.com.trier.springvespertino.services;
+
+import br.com.trier.springvespertino.BaseTest;
+import br.com.trier.springvespertino.models.Country;
+import br.com.trier.springvespertino.models.Pilot;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:cache;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true" })
+public class ReferenceCacheTest extends BaseTest {
+
+    @Autowired
+    CountryService countryService;
+
+    @Autowired
+    PilotService pilotService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        jdbcTemplate.execute("INSERT INTO pais (id, name) VALUES (6,'EUA');");
+        jdbcTemplate.execute("INSERT INTO equipe (id_quipe, nome_equipe) VALUES (6,'Team 1');");
+        jdbcTemplate.execute("INSERT INTO piloto (id_piloto, nome_piloto, country_id, team_id_quipe) VALUES (6,'Alisson', 6, 6);");
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        statistics.setStatisticsEnabled(false);
+        entityManagerFactory.getCache().evictAll();
+        jdbcTemplate.execute("DELETE FROM piloto");
+        jdbcTemplate.execute("DELETE FROM equipe");
+        jdbcTemplate.execute("DELETE FROM pais");
+    }
+
+    @Test
+    @DisplayName("Teste buscar país e piloto pelo cache de segundo nível")
+    void findByIdFromCacheTest() {
+        assertEquals("EUA", countryService.findById(6).getName());
+        assertEquals("Alisson", pilotService.findById(6).getName());
+        long statements = statistics.getPrepareStatementCount();
+        assertEquals("EUA", countryService.findById(6).getName());
+        Pilot pilot = pilotService.findById(6);
+        assertEquals("Alisson", pilot.getName());
+        assertEquals("Team 1", pilot.getTeam().getName());
+        assertEquals(statements, statistics.getPrepareStatementCount());
+        assertEquals(2, statistics.getDomainDataRegionStatistics("pais").getHitCount());
+        assertEquals(1, statistics.getDomainDataRegionStatistics("piloto").getHitCount());
+    }
+
+    @Test
+    @DisplayName("Teste alterar país atualiza o cache de segundo nível")
+    void updateCountryRefreshesCacheTest() {
+        Country country = countryService.findById(6);
+        country.setName("Brasil");
+        countryService.update(country);
+        assertEquals("Brasil", countryService.findById(6).getName());
+    }
+
+}
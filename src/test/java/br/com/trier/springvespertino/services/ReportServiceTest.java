@@ -0,0 +1,114 @@
+package br.com.trier.springvespertino.services;
+
+import br.com.trier.springvespertino.BaseTest;
+import br.com.trier.springvespertino.config.ReportCache;
+import br.com.trier.springvespertino.models.Speedway;
+import br.com.trier.springvespertino.models.dto.CacheStatsDTO;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReportServiceTest extends BaseTest {
+
+    @Autowired
+    ReportService reportService;
+
+    @Autowired
+    RaceService raceService;
+
+    @Autowired
+    SpeedwayService speedwayService;
+
+    @Autowired
+    ReportCache reportCache;
+
+    @Autowired
+    private ObjectMapper mapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        jdbcTemplate.execute("INSERT INTO pais (id, name) VALUES (6,'EUA');");
+        jdbcTemplate.execute("INSERT INTO pais (id, name) VALUES (7,'Grécia');");
+        jdbcTemplate.execute("INSERT INTO pista (id_pista, nome_pista, tamanho_pista, country_id) VALUES (6,'Alasca', 600, 6);");
+        jdbcTemplate.execute("INSERT INTO pista (id_pista, nome_pista, tamanho_pista, country_id) VALUES (7,'Atenas', 500, 7);");
+        jdbcTemplate.execute("INSERT INTO campeonato (codigo_campeonato, descricao, ano) VALUES (6,'F1', 2023);");
+        jdbcTemplate.execute("INSERT INTO corrida (id_corrida, data_corrida, championship_codigo_campeonato, speedway_id_pista) VALUES (6,'2023-07-23 15:00:00', 6, 6);");
+        jdbcTemplate.execute("INSERT INTO corrida (id_corrida, data_corrida, championship_codigo_campeonato, speedway_id_pista) VALUES (7,'2023-08-20 15:00:00', 6, 6);");
+        jdbcTemplate.execute("INSERT INTO corrida (id_corrida, data_corrida, championship_codigo_campeonato, speedway_id_pista) VALUES (8,'2023-09-17 15:00:00', 6, 7);");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        reportCache.invalidateAll();
+        jdbcTemplate.execute("DELETE FROM corrida");
+        jdbcTemplate.execute("DELETE FROM campeonato");
+        jdbcTemplate.execute("DELETE FROM pista");
+        jdbcTemplate.execute("DELETE FROM pais");
+    }
+
+    private JsonNode report(Integer countryId, Integer year) throws IOException {
+        return mapper.readTree(reportService.findRaceByCountryAndYear(countryId, year));
+    }
+
+    @Test
+    @DisplayName("Teste relatório repetido sai do cache")
+    void findFromCacheTest() throws IOException {
+        CacheStatsDTO before = reportService.cacheStats();
+        byte[] first = reportService.findRaceByCountryAndYear(6, 2023);
+        assertSame(first, reportService.findRaceByCountryAndYear(6, 2023));
+        CacheStatsDTO after = reportService.cacheStats();
+        assertEquals(before.getHits() + 1, after.getHits());
+        assertEquals(before.getMisses() + 1, after.getMisses());
+        JsonNode report = report(6, 2023);
+        assertEquals("EUA", report.get("country").asText());
+        assertEquals(2, report.get("raceSize").asInt());
+    }
+
+    @Test
+    @DisplayName("Teste remover corrida invalida só o relatório do país e ano")
+    void deleteRaceInvalidatesTest() throws IOException {
+        assertEquals(2, report(6, 2023).get("raceSize").asInt());
+        byte[] other = reportService.findRaceByCountryAndYear(7, 2023);
+        raceService.delete(7);
+        assertEquals(1, report(6, 2023).get("raceSize").asInt());
+        assertSame(other, reportService.findRaceByCountryAndYear(7, 2023));
+    }
+
+    @Test
+    @DisplayName("Teste alterar pista de país invalida os dois países")
+    void updateSpeedwayInvalidatesTest() throws IOException {
+        assertEquals(2, report(6, 2023).get("raceSize").asInt());
+        assertEquals(1, report(7, 2023).get("raceSize").asInt());
+        Speedway speedway = speedwayService.findById(6);
+        speedway.setName("Texas");
+        speedway.setCountry(speedwayService.findById(7).getCountry());
+        speedwayService.update(speedway);
+        assertEquals(0, report(6, 2023).get("raceSize").asInt());
+        JsonNode report = report(7, 2023);
+        assertEquals(3, report.get("raceSize").asInt());
+        assertTrue(report.toString().contains("Texas"));
+    }
+
+    @Test
+    @DisplayName("Teste pré-carga do relatório da temporada")
+    void warmUpTest() {
+        CacheStatsDTO before = reportService.cacheStats();
+        assertEquals(2, reportService.warmUp(2023));
+        reportService.findRaceByCountryAndYear(6, 2023);
+        reportService.findRaceByCountryAndYear(7, 2023);
+        assertEquals(before.getHits() + 2, reportService.cacheStats().getHits());
+    }
+
+}
@@ -0,0 +1,158 @@
+package br.com.trier.springvespertino.services;
+
+import br.com.trier.springvespertino.BaseTest;
+import br.com.trier.springvespertino.models.Championship;
+import br.com.trier.springvespertino.models.Pilot;
+import br.com.trier.springvespertino.models.PilotRace;
+import br.com.trier.springvespertino.models.Race;
+import br.com.trier.springvespertino.models.Team;
+import br.com.trier.springvespertino.models.dto.ChampionshipStandingsDTO;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Transactional
+public class StandingsServiceTest extends BaseTest {
+
+    @Autowired
+    StandingsService standingsService;
+
+    @Autowired
+    PilotRaceService pilotRaceService;
+
+    @Autowired
+    PilotService pilotService;
+
+    @Autowired
+    TeamService teamService;
+
+    @Autowired
+    RaceService raceService;
+
+    @Autowired
+    ChampionshipService championshipService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final Championship championship = new Championship(6, "F1", 2023);
+
+    @BeforeEach
+    public void setUp() {
+        jdbcTemplate.execute("INSERT INTO pais (id, name) VALUES (6,'EUA');");
+        jdbcTemplate.execute("INSERT INTO equipe (id_quipe, nome_equipe) VALUES (6,'Team 1');");
+        jdbcTemplate.execute("INSERT INTO equipe (id_quipe, nome_equipe) VALUES (7,'Team 2');");
+        jdbcTemplate.execute("INSERT INTO piloto (id_piloto, nome_piloto, country_id, team_id_quipe) VALUES (6,'Alisson', 6, 6);");
+        jdbcTemplate.execute("INSERT INTO piloto (id_piloto, nome_piloto, country_id, team_id_quipe) VALUES (7,'Clavison', 6, 7);");
+        jdbcTemplate.execute("INSERT INTO piloto (id_piloto, nome_piloto, country_id, team_id_quipe) VALUES (8,'Filipe', 6, 6);");
+        jdbcTemplate.execute("INSERT INTO pista (id_pista, nome_pista, tamanho_pista, country_id) VALUES (6,'Alasca', 600, 6);");
+        jdbcTemplate.execute("INSERT INTO campeonato (codigo_campeonato, descricao, ano) VALUES (6,'F1', 2023);");
+        jdbcTemplate.execute("INSERT INTO campeonato (codigo_campeonato, descricao, ano) VALUES (7,'F2', 2023);");
+        jdbcTemplate.execute("INSERT INTO corrida (id_corrida, data_corrida, championship_codigo_campeonato, speedway_id_pista) VALUES (6,'2023-07-23 15:00:00', 6, 6);");
+        jdbcTemplate.execute("INSERT INTO corrida (id_corrida, data_corrida, championship_codigo_campeonato, speedway_id_pista) VALUES (7,'2023-08-20 15:00:00', 6, 6);");
+        jdbcTemplate.execute("INSERT INTO corrida (id_corrida, data_corrida, championship_codigo_campeonato, speedway_id_pista) VALUES (8,'2023-09-17 15:00:00', 7, 6);");
+
+        jdbcTemplate.execute("INSERT INTO piloto_corrida (id, colocacao, pilot_id_piloto, race_id_corrida) VALUES (6, 1, 6, 6);");
+        jdbcTemplate.execute("INSERT INTO piloto_corrida (id, colocacao, pilot_id_piloto, race_id_corrida) VALUES (7, 2, 7, 6);");
+        jdbcTemplate.execute("INSERT INTO piloto_corrida (id, colocacao, pilot_id_piloto, race_id_corrida) VALUES (8, 3, 8, 6);");
+        jdbcTemplate.execute("INSERT INTO piloto_corrida (id, colocacao, pilot_id_piloto, race_id_corrida) VALUES (9, 1, 7, 7);");
+        jdbcTemplate.execute("INSERT INTO piloto_corrida (id, colocacao, pilot_id_piloto, race_id_corrida) VALUES (10, 11, 6, 7);");
+        jdbcTemplate.execute("INSERT INTO piloto_corrida (id, colocacao, pilot_id_piloto, race_id_corrida) VALUES (11, 1, 8, 8);");
+        standingsService.evict(championship);
+        standingsService.evict(7);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.execute("DELETE FROM piloto_corrida");
+        jdbcTemplate.execute("DELETE FROM corrida");
+        jdbcTemplate.execute("DELETE FROM campeonato");
+        jdbcTemplate.execute("DELETE FROM pista");
+        jdbcTemplate.execute("DELETE FROM piloto");
+        jdbcTemplate.execute("DELETE FROM equipe");
+        jdbcTemplate.execute("DELETE FROM pais");
+    }
+
+    @Test
+    @DisplayName("Teste classificação de pilotos do campeonato")
+    void pilotStandingsTest() {
+        ChampionshipStandingsDTO standings = standingsService.findByChampionship(championship);
+        assertEquals(6, standings.getChampionshipId());
+        assertEquals(3, standings.getPilots().size());
+        assertEquals("Clavison", standings.getPilots().get(0).getPilotName());
+        assertEquals(43, standings.getPilots().get(0).getPoints());
+        assertEquals(1, standings.getPilots().get(0).getWins());
+        assertEquals("Alisson", standings.getPilots().get(1).getPilotName());
+        assertEquals(25, standings.getPilots().get(1).getPoints());
+        assertEquals("Filipe", standings.getPilots().get(2).getPilotName());
+        assertEquals(15, standings.getPilots().get(2).getPoints());
+    }
+
+    @Test
+    @DisplayName("Teste classificação de equipes do campeonato")
+    void teamStandingsTest() {
+        ChampionshipStandingsDTO standings = standingsService.findByChampionship(championship);
+        assertEquals(2, standings.getTeams().size());
+        assertEquals("Team 2", standings.getTeams().get(0).getTeamName());
+        assertEquals(43, standings.getTeams().get(0).getPoints());
+        assertEquals("Team 1", standings.getTeams().get(1).getTeamName());
+        assertEquals(40, standings.getTeams().get(1).getPoints());
+        assertEquals(1, standings.getTeams().get(1).getWins());
+    }
+
+    @Test
+    @DisplayName("Teste classificação atualizada ao alterar colocação")
+    void standingsEvictedOnUpdateTest() {
+        assertEquals(25, standingsService.findByChampionship(championship).getPilots().get(1).getPoints());
+        PilotRace pilotRace = pilotRaceService.findById(10);
+        pilotRace.setPlacement(2);
+        pilotRaceService.update(pilotRace);
+        ChampionshipStandingsDTO standings = standingsService.findByChampionship(championship);
+        assertEquals("Alisson", standings.getPilots().get(0).getPilotName());
+        assertEquals(43, standings.getPilots().get(0).getPoints());
+    }
+
+    @Test
+    @DisplayName("Teste classificação atualizada ao piloto trocar de equipe")
+    void standingsEvictedOnPilotTeamChangeTest() {
+        assertEquals(40, standingsService.findByChampionship(championship).getTeams().get(1).getPoints());
+        Pilot pilot = pilotService.findById(8);
+        pilotService.update(new Pilot(8, pilot.getName(), pilot.getCountry(), teamService.findById(7)));
+        ChampionshipStandingsDTO standings = standingsService.findByChampionship(championship);
+        assertEquals("Team 2", standings.getTeams().get(0).getTeamName());
+        assertEquals(58, standings.getTeams().get(0).getPoints());
+        assertEquals(25, standings.getTeams().get(1).getPoints());
+        assertEquals("Team 2", standings.getPilots().get(2).getTeamName());
+    }
+
+    @Test
+    @DisplayName("Teste classificação atualizada ao corrida trocar de campeonato")
+    void standingsEvictedOnRaceChampionshipChangeTest() {
+        assertEquals(43, standingsService.findByChampionship(championship).getPilots().get(0).getPoints());
+        Championship other = championshipService.findById(7);
+        assertEquals(1, standingsService.findByChampionship(other).getPilots().size());
+        Race race = raceService.findById(7);
+        raceService.update(new Race(7, race.getDate(), race.getSpeedway(), other));
+        ChampionshipStandingsDTO standings = standingsService.findByChampionship(championship);
+        assertEquals("Alisson", standings.getPilots().get(0).getPilotName());
+        assertEquals(25, standings.getPilots().get(0).getPoints());
+        assertEquals(3, standingsService.findByChampionship(other).getPilots().size());
+    }
+
+    @Test
+    @DisplayName("Teste classificação atualizada ao renomear equipe e campeonato")
+    void standingsEvictedOnRenameTest() {
+        assertEquals("Team 2", standingsService.findByChampionship(championship).getTeams().get(0).getTeamName());
+        teamService.update(new Team(7, "Equipe 2"));
+        assertEquals("Equipe 2", standingsService.findByChampionship(championship).getTeams().get(0).getTeamName());
+        championshipService.update(new Championship(6, "Fórmula 1", 2023));
+        assertEquals("Fórmula 1", standingsService.findByChampionship(championshipService.findById(6)).getChampionship());
+    }
+
+}
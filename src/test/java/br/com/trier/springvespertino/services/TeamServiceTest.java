@@ -2,6 +2,7 @@ package br.com.trier.springvespertino.services;
 
 import br.com.trier.springvespertino.BaseTest;
 import br.com.trier.springvespertino.models.Team;
+import br.com.trier.springvespertino.services.exceptions.IntegrityViolation;
 import br.com.trier.springvespertino.services.exceptions.ObjectNotFound;
 import jakarta.transaction.Transactional;
 import org.junit.jupiter.api.AfterEach;
@@ -115,4 +116,25 @@ public class TeamServiceTest extends BaseTest {
         assertEquals("Team 4", teamAlter.getName());
     }
 
+    @Test
+    @DisplayName("Teste inserir e alterar equipe com nome existente")
+    void duplicatedNameTest() {
+        var exception = assertThrows(
+                IntegrityViolation.class, () -> teamService.salvar(new Team(null, "team 1")));
+        assertEquals("Nome já existente: team 1", exception.getMessage());
+        exception = assertThrows(
+                IntegrityViolation.class, () -> teamService.update(new Team(7, "Team 1")));
+        assertEquals("Nome já existente: Team 1", exception.getMessage());
+        teamService.update(new Team(6, "TEAM 1"));
+        assertEquals("TEAM 1", teamService.findById(6).getName());
+    }
+
+    @Test
+    @DisplayName("Teste alterar equipe inexistente")
+    void updateNonExistentTest() {
+        var exception = assertThrows(
+                ObjectNotFound.class, () -> teamService.update(new Team(10, "Team 10")));
+        assertEquals("Equipe 10 não encontrada", exception.getMessage());
+    }
+
 }
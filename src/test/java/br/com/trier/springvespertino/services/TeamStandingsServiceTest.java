@@ -0,0 +1,193 @@
+package br.com.trier.springvespertino.services;
+
+import br.com.trier.springvespertino.BaseTest;
+import br.com.trier.springvespertino.models.Championship;
+import br.com.trier.springvespertino.models.Pilot;
+import br.com.trier.springvespertino.models.PilotRace;
+import br.com.trier.springvespertino.models.Race;
+import br.com.trier.springvespertino.models.Team;
+import br.com.trier.springvespertino.models.dto.TeamStandingDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.transaction.TestTransaction;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Transactional
+public class TeamStandingsServiceTest extends BaseTest {
+
+    @Autowired
+    TeamStandingsService teamStandingsService;
+
+    @Autowired
+    StandingsService standingsService;
+
+    @Autowired
+    PilotRaceService pilotRaceService;
+
+    @Autowired
+    PilotService pilotService;
+
+    @Autowired
+    TeamService teamService;
+
+    @Autowired
+    RaceService raceService;
+
+    @Autowired
+    ChampionshipService championshipService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final Championship championship = new Championship(6, "F1", 2023);
+
+    @BeforeEach
+    public void setUp() {
+        jdbcTemplate.execute("INSERT INTO pais (id, name) VALUES (6,'EUA');");
+        jdbcTemplate.execute("INSERT INTO equipe (id_quipe, nome_equipe) VALUES (6,'Team 1');");
+        jdbcTemplate.execute("INSERT INTO equipe (id_quipe, nome_equipe) VALUES (7,'Team 2');");
+        jdbcTemplate.execute("INSERT INTO piloto (id_piloto, nome_piloto, country_id, team_id_quipe) VALUES (6,'Alisson', 6, 6);");
+        jdbcTemplate.execute("INSERT INTO piloto (id_piloto, nome_piloto, country_id, team_id_quipe) VALUES (7,'Clavison', 6, 7);");
+        jdbcTemplate.execute("INSERT INTO piloto (id_piloto, nome_piloto, country_id, team_id_quipe) VALUES (8,'Filipe', 6, 6);");
+        jdbcTemplate.execute("INSERT INTO pista (id_pista, nome_pista, tamanho_pista, country_id) VALUES (6,'Alasca', 600, 6);");
+        jdbcTemplate.execute("INSERT INTO campeonato (codigo_campeonato, descricao, ano) VALUES (6,'F1', 2023);");
+        jdbcTemplate.execute("INSERT INTO campeonato (codigo_campeonato, descricao, ano) VALUES (7,'F2', 2023);");
+        jdbcTemplate.execute("INSERT INTO corrida (id_corrida, data_corrida, championship_codigo_campeonato, speedway_id_pista) VALUES (6,'2023-07-23 15:00:00', 6, 6);");
+        jdbcTemplate.execute("INSERT INTO corrida (id_corrida, data_corrida, championship_codigo_campeonato, speedway_id_pista) VALUES (7,'2023-08-20 15:00:00', 6, 6);");
+        jdbcTemplate.execute("INSERT INTO corrida (id_corrida, data_corrida, championship_codigo_campeonato, speedway_id_pista) VALUES (8,'2023-09-17 15:00:00', 7, 6);");
+
+        jdbcTemplate.execute("INSERT INTO piloto_corrida (id, colocacao, pilot_id_piloto, race_id_corrida) VALUES (9006, 1, 6, 6);");
+        jdbcTemplate.execute("INSERT INTO piloto_corrida (id, colocacao, pilot_id_piloto, race_id_corrida) VALUES (9007, 2, 7, 6);");
+        jdbcTemplate.execute("INSERT INTO piloto_corrida (id, colocacao, pilot_id_piloto, race_id_corrida) VALUES (9008, 3, 8, 6);");
+        jdbcTemplate.execute("INSERT INTO piloto_corrida (id, colocacao, pilot_id_piloto, race_id_corrida) VALUES (9009, 1, 7, 7);");
+        jdbcTemplate.execute("INSERT INTO piloto_corrida (id, colocacao, pilot_id_piloto, race_id_corrida) VALUES (9010, 11, 6, 7);");
+        jdbcTemplate.execute("INSERT INTO piloto_corrida (id, colocacao, pilot_id_piloto, race_id_corrida) VALUES (9011, 1, 8, 8);");
+        standingsService.evict(championship);
+        teamStandingsService.rebuild();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.execute("DELETE FROM equipe_campeonato");
+        jdbcTemplate.execute("DELETE FROM piloto_corrida");
+        jdbcTemplate.execute("DELETE FROM corrida");
+        jdbcTemplate.execute("DELETE FROM campeonato");
+        jdbcTemplate.execute("DELETE FROM pista");
+        jdbcTemplate.execute("DELETE FROM piloto");
+        jdbcTemplate.execute("DELETE FROM equipe");
+        jdbcTemplate.execute("DELETE FROM pais");
+    }
+
+    private List<String> standings(Integer championshipId) {
+        // as atualizações por delta são bulk: descarta o que o contexto de persistência tiver em memória
+        entityManager.flush();
+        entityManager.clear();
+        return teamStandingsService.findByChampionship(new Championship(championshipId, null, 2023)).stream()
+                .map(team -> "%s:%d:%d".formatted(team.getTeamName(), team.getPoints(), team.getWins()))
+                .toList();
+    }
+
+    @Test
+    @DisplayName("Teste classificação de equipes reconstruída")
+    void rebuildTest() {
+        assertEquals(List.of("Team 2:43:1", "Team 1:40:1"), standings(6));
+        assertEquals(List.of("Team 1:25:1"), standings(7));
+        assertEquals(standingsService.findByChampionship(championship).getTeams().stream()
+                .map(team -> "%s:%d:%d".formatted(team.getTeamName(), team.getPoints(), team.getWins())).toList(),
+                standings(6));
+    }
+
+    @Test
+    @DisplayName("Teste inserir, alterar e remover resultados atualiza a classificação por delta")
+    void incrementalTest() {
+        pilotRaceService.insert(new PilotRace(null, 2, pilotService.findById(7), raceService.findById(8)));
+        pilotRaceService.update(new PilotRace(9010, 4, pilotService.findById(6), raceService.findById(7)));
+        pilotRaceService.delete(9009);
+        List<String> team6 = standings(6);
+        List<String> team7 = standings(7);
+        assertEquals(List.of("Team 1:52:1", "Team 2:18:0"), team6);
+        assertEquals(List.of("Team 1:25:1", "Team 2:18:0"), team7);
+        teamStandingsService.rebuild();
+        assertEquals(team6, standings(6));
+        assertEquals(team7, standings(7));
+    }
+
+    @Test
+    @DisplayName("Teste piloto trocar de equipe move os resultados dele por delta")
+    void pilotTeamChangeTest() {
+        Pilot pilot = pilotService.findById(8);
+        pilotService.update(new Pilot(8, pilot.getName(), pilot.getCountry(), teamService.findById(7)));
+        List<String> team6 = standings(6);
+        List<String> team7 = standings(7);
+        assertEquals(List.of("Team 2:58:1", "Team 1:25:1"), team6);
+        assertEquals(List.of("Team 2:25:1"), team7);
+        teamStandingsService.rebuild();
+        assertEquals(team6, standings(6));
+        assertEquals(team7, standings(7));
+    }
+
+    @Test
+    @DisplayName("Teste corrida trocar de campeonato leva os resultados junto")
+    void raceChampionshipChangeTest() {
+        Race race = raceService.findById(7);
+        raceService.update(new Race(7, race.getDate(), race.getSpeedway(), championshipService.findById(7)));
+        assertEquals(List.of("Team 1:40:1", "Team 2:18:0"), standings(6));
+        assertEquals(List.of("Team 1:25:1", "Team 2:25:1"), standings(7));
+    }
+
+    @Test
+    @DisplayName("Teste campeonato sem resultados")
+    void emptyTest() {
+        pilotRaceService.delete(9011);
+        assertTrue(standings(7).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Teste primeiro resultado da equipe no campeonato gravado em paralelo não duplica a linha")
+    void concurrentFirstResultTest() throws Exception {
+        // as duas transações só enxergam a massa commitada
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+        Pilot clavison = new Pilot(7, "Clavison", null, new Team(7, "Team 2"));
+        Race race = new Race(8, null, null, new Championship(7, "F2", 2023));
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int placement = 2; placement <= 3; placement++) {
+                PilotRace pilotRace = new PilotRace(null, placement, clavison, race);
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    teamStandingsService.add(List.of(pilotRace));
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT resultados FROM equipe_campeonato WHERE championship_codigo_campeonato = 7 AND team_id_quipe = 7", Integer.class));
+        assertEquals(33, jdbcTemplate.queryForObject("SELECT pontos FROM equipe_campeonato WHERE championship_codigo_campeonato = 7 AND team_id_quipe = 7", Integer.class));
+    }
+
+}
@@ -1,9 +1,11 @@
 package br.com.trier.springvespertino.services;
 
 import br.com.trier.springvespertino.BaseTest;
+import br.com.trier.springvespertino.config.jwt.JwtUserDetailService;
 import br.com.trier.springvespertino.models.User;
 import br.com.trier.springvespertino.services.exceptions.IntegrityViolation;
 import br.com.trier.springvespertino.services.exceptions.ObjectNotFound;
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,6 +13,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.List;
 
@@ -25,6 +28,20 @@ public class UserServiceTest extends BaseTest{
 	@Autowired
 	private JdbcTemplate jdbcTemplate;
 
+	@Autowired
+	private PasswordEncoder encoder;
+
+	@Autowired
+	private JwtUserDetailService userDetailService;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private String storedPassword(Integer id) {
+		entityManager.flush();
+		return jdbcTemplate.queryForObject("SELECT senha_usuario FROM usuario WHERE id_usuario = ?", String.class, id);
+	}
+
 	@BeforeEach
 	public void setUp() {
 		// Script SQL para ser executado antes de cada teste
@@ -67,7 +84,8 @@ public class UserServiceTest extends BaseTest{
 		assertEquals(1, usuario.getId());
 		assertEquals("insert", usuario.getName());
 		assertEquals("insert", usuario.getEmail());
-		assertEquals("insert", usuario.getPassword());
+		assertNotEquals("insert", usuario.getPassword());
+		assertTrue(encoder.matches("insert", usuario.getPassword()));
 	}
 	
 	@Test
@@ -122,6 +140,22 @@ public class UserServiceTest extends BaseTest{
 		userService.update(usuarioAltera);
 		usuario = userService.findById(3);
 		assertEquals("altera", usuario.getName());
+		assertTrue(encoder.matches("altera", usuario.getPassword()));
+	}
+	
+	@Test
+	@DisplayName("Teste alterar usuário sem senha nova mantém o hash gravado")
+	void updateUsersKeepsPasswordTest() {
+		var usuarioAltera = new User(3,"altera", "altera", "altera", "ADMIN");
+		userService.update(usuarioAltera);
+		String hash = storedPassword(3);
+		userService.update(new User(3, "altera", "altera", hash, "ADMIN"));
+		assertEquals(hash, storedPassword(3));
+		userService.update(new User(3, "altera", "altera", null, "ADMIN"));
+		assertEquals(hash, storedPassword(3));
+		userService.update(new User(3, "altera", "altera", " ", "ADMIN"));
+		assertEquals(hash, storedPassword(3));
+		assertTrue(encoder.matches("altera", storedPassword(3)));
 	}
 	
 	@Test
@@ -155,4 +189,21 @@ public class UserServiceTest extends BaseTest{
 		assertEquals("Nenhum nome de usuário inicia com c", exception.getMessage());
 	}
 	
+	@Test
+	@DisplayName("Teste carregar usuário para login não grava a senha")
+	void loadUserIsReadOnlyTest() {
+		userDetailService.evict("email1");
+		assertEquals("senha1", userDetailService.loadUserByUsername("email1").getPassword());
+		assertEquals("senha1", storedPassword(3));
+	}
+
+	@Test
+	@DisplayName("Teste migrar senhas em texto puro para BCrypt")
+	void hashPlainTextPasswordsTest() {
+		assertEquals(2, userService.hashPlainTextPasswords());
+		assertTrue(encoder.matches("senha1", storedPassword(3)));
+		assertTrue(encoder.matches("senha2", storedPassword(4)));
+		assertEquals(0, userService.hashPlainTextPasswords());
+	}
+
 }
@@ -0,0 +1,47 @@
+package br.com.trier.springvespertino.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DateUtilsTest {
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    @Test
+    @DisplayName("Teste formatar e converter datas igual ao formatter")
+    void sameAsFormatterTest() {
+        StringBuilder sb = new StringBuilder();
+        byte[] buf = new byte[10];
+        for (LocalDate day = LocalDate.of(1899, 12, 25); day.getYear() < 2101; day = day.plusDays(1)) {
+            ZonedDateTime date = day.atTime(15, 30).atZone(ZoneId.systemDefault());
+            String expected = FORMATTER.format(date);
+            assertEquals(expected, DateUtils.zonedDateTimeToStr(date));
+            sb.setLength(0);
+            assertEquals(expected, DateUtils.appendDate(sb, date).toString());
+            assertEquals(10, DateUtils.writeDate(buf, 0, date));
+            assertEquals(expected, new String(buf));
+            assertEquals(day.atStartOfDay(ZoneId.systemDefault()), DateUtils.strToZonedDateTime(expected));
+        }
+    }
+
+    @Test
+    @DisplayName("Teste datas fora do formato usam o formatter")
+    void fallbackTest() {
+        assertEquals(LocalDate.of(2023, 2, 28), DateUtils.strToZonedDateTime("31/02/2023").toLocalDate());
+        assertThrows(DateTimeParseException.class, () -> DateUtils.strToZonedDateTime("1/2/2023"));
+        assertThrows(DateTimeParseException.class, () -> DateUtils.strToZonedDateTime("aa/02/2023"));
+        assertThrows(DateTimeParseException.class, () -> DateUtils.strToZonedDateTime("32/01/2023"));
+        ZonedDateTime future = ZonedDateTime.of(12023, 1, 1, 0, 0, 0, 0, ZoneId.systemDefault());
+        assertEquals(FORMATTER.format(future), DateUtils.zonedDateTimeToStr(future));
+        assertEquals("", DateUtils.zonedDateTimeToStr(null));
+    }
+
+}
@@ -1,2 +1,2 @@
-INSERT INTO usuario(id_usuario, nome_usuario, email_usuario, senha_usuario, permissoes_usuario) VALUES(3, 'User 1', 'email1', 'senha1', 'ADMIN,USER');
-INSERT INTO usuario(id_usuario, nome_usuario, email_usuario, senha_usuario, permissoes_usuario) VALUES(4, 'User 2', 'email2', 'senha2', 'USER');
+INSERT INTO usuario(id_usuario, nome_usuario, email_usuario, senha_usuario, permissoes_usuario) VALUES(3, 'User 1', 'email1', '$2a$10$MGeeLAvusJE6VHg8BDBJT./JqlutFBfIgLa4YhJAYkfTdQbk8UQ4e', 'ADMIN,USER');
+INSERT INTO usuario(id_usuario, nome_usuario, email_usuario, senha_usuario, permissoes_usuario) VALUES(4, 'User 2', 'email2', '$2a$10$e/4CAlB9faKcVMcFwrhTbeTH/WOg/B6r2GZyAJ3xp.WRdPfMR1wZK', 'USER');